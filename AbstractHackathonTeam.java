@@ -1,17 +1,47 @@
 package hackathonsystem.model;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 
 public abstract class AbstractHackathonTeam {
     
     protected int teamNumber;
-    protected String teamName;
-    protected String university;
-    protected String category;
-    protected int[] scores;
-    protected boolean eligibility;
+    protected volatile String teamName;
+    protected volatile String university;
+    protected volatile String category;
+    protected volatile int[] scores;
+    protected volatile boolean eligibility;
     protected String customAttributeDetails; 
 
+    // Per-judge submissions; null while the team is scored by a single score vector
+    private volatile JudgeScoreSheet judgeScores;
+    // The owning TeamList's rules; null until the team is added to one, when type defaults apply
+    private volatile ScoringRules scoringRules;
+
+    // Bumped on every change; writers to one team are serialized by TeamList.lockFor
+    private volatile int version;
+    // Memoized result of computeOverallScore(), valid while its version, rules and their generation match
+    private volatile CachedScore cachedOverallScore;
+
+    private static final class CachedScore {
+        final int version;
+        final ScoringRules rules;
+        final int rulesGeneration;
+        final double value;
+
+        CachedScore(int version, ScoringRules rules, int rulesGeneration, double value) {
+            this.version = version;
+            this.rules = rules;
+            this.rulesGeneration = rulesGeneration;
+            this.value = value;
+        }
+
+        boolean isCurrent(int version, ScoringRules rules, int rulesGeneration) {
+            return this.version == version && this.rules == rules && this.rulesGeneration == rulesGeneration;
+        }
+    }
+
     // CONSTRUCTOR (7 arguments - used by the subclasses to initialize common fields)
     public AbstractHackathonTeam(int teamNumber, String teamName, String category, String university, boolean eligibility, String customAttributeDetails, int[] scores) {
         this.teamNumber = teamNumber;
@@ -25,12 +55,106 @@ public abstract class AbstractHackathonTeam {
         if (scores == null || scores.length != 5) {
             this.scores = new int[]{0, 0, 0, 0, 0};
         } else {
-            this.scores = scores;
+            this.scores = scores.clone();
         }
     }
 
     // MANDATORY ABSTRACT METHOD: Polymorphic scoring calculation (must return 0-5 range).
-    public abstract double getOverallScore();
+    protected abstract double computeOverallScore();
+
+    // Called by TeamList when the team is added, so it is scored by that list's rules.
+    public void setScoringRules(ScoringRules scoringRules) {
+        this.scoringRules = scoringRules;
+    }
+
+    public ScoringRules getScoringRules() {
+        return scoringRules;
+    }
+
+    // The rule configured for this team's category, or the given type default.
+    protected ScoringRule ruleFor(ScoringRule fallback) {
+        ScoringRules rules = scoringRules;
+        return rules == null ? fallback : rules.ruleFor(category, fallback);
+    }
+
+    // How the owning TeamList combines judge submissions; the mean until the team is added to one.
+    private ScoreAggregation aggregation() {
+        ScoringRules rules = scoringRules;
+        return rules == null ? ScoreAggregation.MEAN : rules.getAggregation();
+    }
+
+    // The owning TeamList's judge normalization, or null if it is off.
+    private JudgeNormalization normalization() {
+        ScoringRules rules = scoringRules;
+        return rules != null && rules.getNormalization().isEnabled() ? rules.getNormalization() : null;
+    }
+
+    // Scores the team by the rule, using the aggregated (and if enabled, normalized) judge submissions if there are any.
+    protected double scoreBy(ScoringRule rule, boolean hasAttribute) {
+        JudgeScoreSheet sheet = judgeScores;
+        if (sheet == null) {
+            return rule.score(scores, eligibility, hasAttribute);
+        }
+        ScoreAggregation method = aggregation();
+        JudgeNormalization normalization = normalization();
+        double[] aggregated = normalization != null ? sheet.aggregateNormalized(method, normalization) : sheet.aggregate(method);
+        return rule.score(aggregated, eligibility, hasAttribute);
+    }
+
+    // Returns the cached overall score, recomputing it only after the team or the scoring rules changed.
+    // Safe to call from any thread while another thread updates the team.
+    public double getOverallScore() {
+        // Read the version before the inputs, so a racing update can only make the result stale-tagged
+        int current = version;
+        ScoringRules rules = scoringRules;
+        int rulesGeneration = rules == null ? 0 : rules.getGeneration();
+        CachedScore cached = cachedOverallScore;
+        if (cached != null && cached.isCurrent(current, rules, rulesGeneration)) {
+            return cached.value;
+        }
+        double value = computeOverallScore();
+        cachedOverallScore = new CachedScore(current, rules, rulesGeneration, value);
+        return value;
+    }
+
+    /**
+     * Stores an overall score computed elsewhere (see TeamList.rescoreAll) for the given team
+     * version and rules generation. Ignored if the team has changed since that version was read.
+     */
+    public void cacheOverallScore(int version, ScoringRules rules, int rulesGeneration, double value) {
+        if (this.version == version) {
+            cachedOverallScore = new CachedScore(version, rules, rulesGeneration, value);
+        }
+    }
+
+    // The rule this team is scored by, or null if it computes its score some other way.
+    public ScoringRule getScoringRule() {
+        return null;
+    }
+
+    // The rule this team's type is scored by when its category has none configured, or null.
+    public ScoringRule getDefaultScoringRule() {
+        return null;
+    }
+
+    // Whether the team earns its rule's bonus (rather than its penalty).
+    public boolean hasScoringAttribute() {
+        return false;
+    }
+
+    protected void invalidateOverallScore() {
+        version++;
+    }
+
+    // Marks the overall score stale after the judge statistics it is normalized by changed; see TeamList.applyJudgeNormalization.
+    public void normalizationChanged() {
+        invalidateOverallScore();
+    }
+
+    // Changes whenever any field of the team changes; lets views detect modified rows cheaply.
+    public int getVersion() {
+        return version;
+    }
     
     // Concrete Method: Returns detailed info about the team.
     public String getFullDetails() {
@@ -40,11 +164,24 @@ public abstract class AbstractHackathonTeam {
             category, 
             eligibility ? "Eligible" : "INELIGIBLE",
             getCustomAttributeDetails(),
-            Arrays.toString(scores),
+            Arrays.toString(getScores()),
             getOverallScore(),
             // Append the unique attribute details from the subclass
             getUniqueAttributeDetails()
-        );
+        ) + getJudgeScoreDetails();
+    }
+
+    private String getJudgeScoreDetails() {
+        JudgeScoreSheet sheet = judgeScores;
+        if (sheet == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("\nJudge Scores (").append(aggregation()).append(" of ").append(sheet.size())
+            .append(normalization() != null ? ", normalized per judge" : "").append("):");
+        for (Map.Entry<String, int[]> submission : sheet.toMap().entrySet()) {
+            sb.append("\n  ").append(submission.getKey()).append(": ").append(Arrays.toString(submission.getValue()));
+        }
+        return sb.toString();
     }
     
     // Abstract method placeholder for unique attribute description (to be implemented by subclasses)
@@ -55,26 +192,89 @@ public abstract class AbstractHackathonTeam {
     public String getTeamName() { return teamName; }
     public String getUniversity() { return university; }
     public String getCategory() { return category; }
-    public int[] getScores() { return scores; }
+    // The team's scores; with judge submissions, each criterion's aggregate rounded to a whole score.
+    public int[] getScores() {
+        JudgeScoreSheet sheet = judgeScores;
+        if (sheet == null) {
+            return scores.clone();
+        }
+        int[] aggregated = new int[5];
+        for (int i = 0; i < aggregated.length; i++) {
+            aggregated[i] = (int) Math.round(sheet.aggregate(aggregation(), i));
+        }
+        return aggregated;
+    }
+
+    public int getScore(int criterion) {
+        JudgeScoreSheet sheet = judgeScores;
+        return sheet == null ? scores[criterion] : (int) Math.round(sheet.aggregate(aggregation(), criterion));
+    }
+
+    // The unrounded score of one criterion, before any judge normalization.
+    public double getCriterionScore(int criterion) {
+        JudgeScoreSheet sheet = judgeScores;
+        return sheet == null ? scores[criterion] : sheet.aggregate(aggregation(), criterion);
+    }
     public boolean isEligibility() { return eligibility; }
     public String getCustomAttributeDetails() { return customAttributeDetails; } // Initials/Detail
     
+    // Replaces the scores outright, discarding any judge submissions.
     public void setScores(int[] scores) { 
         if (scores != null && scores.length == 5) {
-            this.scores = scores;
+            // Copy so later changes to the caller's array cannot bypass the score cache
+            this.scores = scores.clone();
+            this.judgeScores = null;
+            invalidateOverallScore();
+        }
+    }
+
+    /**
+     * Records one judge's scores (each 0-5), replacing that judge's earlier submission. From then
+     * on the team is scored by the aggregate of all judges' submissions, combined as its TeamList's
+     * rules say (see ScoringRules.getAggregation); only this submission's counts change, so the
+     * cost does not depend on how many judges have submitted. Invalid submissions are ignored.
+     */
+    public void submitJudgeScores(String judge, int[] scores) {
+        if (judge == null || scores == null || scores.length != 5) {
+            return;
         }
+        for (int score : scores) {
+            if (score < 0 || score > ScoreAggregation.MAX_SCORE) return;
+        }
+        JudgeScoreSheet sheet = judgeScores;
+        judgeScores = (sheet == null ? JudgeScoreSheet.EMPTY : sheet).with(judge, scores);
+        invalidateOverallScore();
+    }
+
+    public boolean hasJudgeScores() {
+        return judgeScores != null;
+    }
+
+    public boolean hasJudgeSubmitted(String judge) {
+        JudgeScoreSheet sheet = judgeScores;
+        return sheet != null && sheet.hasSubmitted(judge);
+    }
+
+    // Judge -> submitted scores, in the order the judges first submitted; empty without judge submissions.
+    public Map<String, int[]> getJudgeScores() {
+        JudgeScoreSheet sheet = judgeScores;
+        return sheet == null ? Collections.emptyMap() : sheet.toMap();
     }
     public void setEligibility(boolean eligibility) {
         this.eligibility = eligibility;
+        invalidateOverallScore();
     }
     public void setTeamName(String teamName) {
         this.teamName = teamName;
+        invalidateOverallScore();
     }
     public void setUniversity(String university) {
         this.university = university;
+        invalidateOverallScore();
     }
     public void setCategory(String category) {
         this.category = category;
+        invalidateOverallScore();
     }
 
 }
@@ -1,23 +1,36 @@
 package hackathonsystem.view;
 
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.ReportWriter;
+import hackathonsystem.controller.TeamChangeEvent;
+import hackathonsystem.controller.TeamList;
 import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.JudgeBias;
+import hackathonsystem.model.JudgeProfile;
+import hackathonsystem.model.ScoreAggregation;
+import hackathonsystem.model.ScoringRule;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Comparator;
+import java.util.Vector;
 import javax.swing.border.TitledBorder;
 
 public class AdminGUIView extends JFrame {
     private HackathonManager manager;
+    // Computes table rows, summaries and assignment lists off the EDT
+    private final BackgroundDataService dataService = new BackgroundDataService();
+    // Delivers change events made anywhere in the system once per frame
+    private final TeamChangeCoalescer changeListener = new TeamChangeCoalescer(this::teamsChanged);
     
     private JTable teamTable;
     private JTextArea summaryArea;
-    private DefaultTableModel tableModel;
+    private TeamTableModel tableModel;
     private JButton refreshButton, removeTeamButton, editTeamButton; 
     private JTextField removeTeamIdField;
     
@@ -52,6 +65,7 @@ public class AdminGUIView extends JFrame {
         
         add(tabbedPane);
         loadData();
+        manager.addTeamChangeListener(changeListener);
     }
     
     private JButton createStyledButton(String text) {
@@ -66,13 +80,14 @@ public class AdminGUIView extends JFrame {
     }
 
     private void initComponents() {
-        String[] columnNames = {"ID", "Name", "Category", "University", "Eligibility", "Score (max 5.0)"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new TeamTableModel(
+            new TeamTableModel.Column("ID", Object.class, AbstractHackathonTeam::getTeamNumber),
+            new TeamTableModel.Column("Name", Object.class, AbstractHackathonTeam::getTeamName),
+            new TeamTableModel.Column("Category", Object.class, AbstractHackathonTeam::getCategory),
+            new TeamTableModel.Column("University", Object.class, AbstractHackathonTeam::getUniversity),
+            new TeamTableModel.Column("Eligibility", Object.class, team -> team.isEligibility() ? "Yes" : "No"),
+            new TeamTableModel.Column("Score (max 5.0)", Double.class, AbstractHackathonTeam::getOverallScore)
+        );
         teamTable = new JTable(tableModel);
         
         teamTable.setRowHeight(25);
@@ -83,9 +98,7 @@ public class AdminGUIView extends JFrame {
         teamTable.setSelectionBackground(PRIMARY_COLOR.brighter());
         teamTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         
-        DefaultTableCellRenderer centerRenderer = new DefaultTableCellRenderer();
-        centerRenderer.setHorizontalAlignment(JLabel.CENTER);
-        teamTable.getColumnModel().getColumn(5).setCellRenderer(centerRenderer);
+        teamTable.getColumnModel().getColumn(5).setCellRenderer(new ScoreRenderer());
 
         summaryArea = new JTextArea(5, 60);
         summaryArea.setEditable(false);
@@ -174,6 +187,10 @@ public class AdminGUIView extends JFrame {
         actionButtons.setBackground(Color.WHITE);
         actionButtons.add(refreshButton);
         actionButtons.add(editTeamButton); 
+
+        JButton exportReportButton = createStyledButton("Export Report...");
+        exportReportButton.addActionListener(e -> exportReportAction(exportReportButton));
+        actionButtons.add(exportReportButton);
         
         controlBar.add(actionButtons, BorderLayout.CENTER);
 
@@ -247,6 +264,31 @@ public class AdminGUIView extends JFrame {
         
         gbc.gridx = 2; gbc.gridy = 1; gbc.weightx = 0;
         controls.add(addButton, gbc);
+
+        JButton scoringRuleButton = createStyledButton("Edit Scoring Rule");
+        scoringRuleButton.setBackground(EDIT_COLOR);
+        scoringRuleButton.addActionListener(e -> editScoringRuleAction());
+
+        gbc.gridx = 2; gbc.gridy = 2; gbc.weightx = 0;
+        controls.add(scoringRuleButton, gbc);
+
+        // Applies to every team with several judges' submissions
+        JComboBox<ScoreAggregation> aggregationCombo = new JComboBox<>(ScoreAggregation.values());
+        aggregationCombo.setSelectedItem(manager.getScoreAggregation());
+        aggregationCombo.addActionListener(e -> changeScoreAggregationAction((ScoreAggregation) aggregationCombo.getSelectedItem()));
+
+        gbc.gridx = 0; gbc.gridy = 3; gbc.weightx = 0;
+        controls.add(new JLabel("Combine Judges' Scores By:"), gbc);
+
+        gbc.gridx = 1; gbc.gridy = 3; gbc.weightx = 1.0;
+        controls.add(aggregationCombo, gbc);
+
+        JCheckBox normalizeBox = new JCheckBox("Normalize each judge's scores (z-score)", manager.isJudgeNormalizationEnabled());
+        normalizeBox.setToolTipText("Rescales every judge's submissions by their own mean and spread, so harsh and generous judges count alike");
+        normalizeBox.addActionListener(e -> changeJudgeNormalizationAction(normalizeBox.isSelected()));
+
+        gbc.gridx = 1; gbc.gridy = 4; gbc.weightx = 1.0;
+        controls.add(normalizeBox, gbc);
         
         panel.add(controls, BorderLayout.NORTH);
         
@@ -273,8 +315,7 @@ public class AdminGUIView extends JFrame {
         if (manager.addCategory(newCategory)) {
             JOptionPane.showMessageDialog(this, "Category '" + newCategory + "' added successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
             newCategoryField.setText("");
-            refreshCategoryList();
-            populateFilterCombo(); 
+            // The CATEGORIES_EDITED event refreshes the category lists
         } else {
             JOptionPane.showMessageDialog(this, "Category already exists or failed to add.", "Error", JOptionPane.ERROR_MESSAGE);
         }
@@ -291,21 +332,105 @@ public class AdminGUIView extends JFrame {
         if (confirm == JOptionPane.YES_OPTION) {
             if (manager.removeCategory(selectedCategory)) {
                 JOptionPane.showMessageDialog(this, "Category removed successfully.", "Success", JOptionPane.INFORMATION_MESSAGE);
-                refreshCategoryList();
-                populateFilterCombo(); 
             } else {
                 JOptionPane.showMessageDialog(this, "Failed to remove category. It might be currently in use by a team.", "Error", JOptionPane.ERROR_MESSAGE);
             }
         }
     }
     
+    private void editScoringRuleAction() {
+        String selectedCategory = (String) categoryCombo.getSelectedItem();
+        if (selectedCategory == null) return;
+
+        ScoringRule configured = manager.getScoringRule(selectedCategory);
+        ScoringRule shown = configured != null ? configured : manager.getDefaultScoringRule(selectedCategory);
+        double[] weights = shown.getWeights();
+
+        JTextField[] weightFields = new JTextField[ScoringRule.CRITERIA];
+        JTextField bonusField = new JTextField(String.valueOf(shown.getBonus()));
+        JTextField penaltyField = new JTextField(String.valueOf(shown.getPenalty()));
+        JTextField divisorField = new JTextField(String.valueOf(shown.getDivisor()));
+        JTextField minField = new JTextField(String.valueOf(shown.getMin()));
+        JTextField maxField = new JTextField(String.valueOf(shown.getMax()));
+        JCheckBox defaultCheck = new JCheckBox("Use team type default", configured == null);
+
+        JPanel rulePanel = new JPanel(new GridLayout(0, 2, 10, 5));
+        rulePanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        for (int i = 0; i < weightFields.length; i++) {
+            weightFields[i] = new JTextField(String.valueOf(weights[i]));
+            rulePanel.add(new JLabel("Weight " + (i + 1) + ":"));
+            rulePanel.add(weightFields[i]);
+        }
+        rulePanel.add(new JLabel("Bonus (with attribute):"));
+        rulePanel.add(bonusField);
+        rulePanel.add(new JLabel("Penalty (without):"));
+        rulePanel.add(penaltyField);
+        rulePanel.add(new JLabel("Divide total by:"));
+        rulePanel.add(divisorField);
+        rulePanel.add(new JLabel("Minimum score:"));
+        rulePanel.add(minField);
+        rulePanel.add(new JLabel("Maximum score:"));
+        rulePanel.add(maxField);
+        rulePanel.add(new JLabel(""));
+        rulePanel.add(defaultCheck);
+
+        int result = JOptionPane.showConfirmDialog(this, rulePanel,
+                "Scoring Rule for " + selectedCategory, JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) return;
+
+        ScoringRule rule = null;
+        if (!defaultCheck.isSelected()) {
+            try {
+                double[] newWeights = new double[weightFields.length];
+                for (int i = 0; i < newWeights.length; i++) {
+                    newWeights[i] = Double.parseDouble(weightFields[i].getText().trim());
+                }
+                rule = new ScoringRule(newWeights,
+                        Double.parseDouble(bonusField.getText().trim()),
+                        Double.parseDouble(penaltyField.getText().trim()),
+                        Double.parseDouble(divisorField.getText().trim()),
+                        Double.parseDouble(minField.getText().trim()),
+                        Double.parseDouble(maxField.getText().trim()));
+            } catch (IllegalArgumentException e) {
+                JOptionPane.showMessageDialog(this, "Invalid scoring rule: " + e.getMessage(), "Validation Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+        }
+
+        // Re-ranking every team can take a while on large events; the SCORING_RULES_CHANGED event refreshes the table
+        ScoringRule newRule = rule;
+        dataService.submitWrite("scoringRule", () -> {
+            manager.setScoringRule(selectedCategory, newRule);
+            return selectedCategory;
+        }, category -> JOptionPane.showMessageDialog(this, "Scoring rule for '" + category + "' updated.", "Success", JOptionPane.INFORMATION_MESSAGE));
+    }
+    
+    private void changeScoreAggregationAction(ScoreAggregation method) {
+        if (method == null || method == manager.getScoreAggregation()) return;
+        // Re-ranks every team; the SCORING_RULES_CHANGED event refreshes the table
+        dataService.submitWrite("scoreAggregation", () -> {
+            manager.setScoreAggregation(method);
+            return method;
+        }, applied -> JOptionPane.showMessageDialog(this, "Judges' scores are now combined by " + applied.toString().toLowerCase() + ".", "Success", JOptionPane.INFORMATION_MESSAGE));
+    }
+
+    private void changeJudgeNormalizationAction(boolean enabled) {
+        if (enabled == manager.isJudgeNormalizationEnabled()) return;
+        // Re-ranks every team; the SCORING_RULES_CHANGED event refreshes the table
+        dataService.submitWrite("judgeNormalization", () -> {
+            manager.setJudgeNormalization(enabled);
+            return enabled;
+        }, applied -> JOptionPane.showMessageDialog(this, applied ? "Judges' scores are now normalized per judge." : "Judges' scores are now used as submitted.", "Success", JOptionPane.INFORMATION_MESSAGE));
+    }
+
     private JPanel createJudgeAssignmentPanel() {
         JPanel panel = new JPanel(new BorderLayout(10, 10));
         panel.setBorder(BorderFactory.createTitledBorder(
             BorderFactory.createLineBorder(PRIMARY_COLOR, 1), "Judge Assignment", TitledBorder.LEFT, TitledBorder.TOP, HEADER_FONT.deriveFont(Font.BOLD, 14), PRIMARY_COLOR
         ));
 
-        JPanel controlPanel = new JPanel(new GridLayout(3, 2, 10, 10));
+        JPanel controlPanel = new JPanel(new GridLayout(4, 2, 10, 10));
         controlPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
         
         teamAssignCombo = new JComboBox<>();
@@ -313,13 +438,19 @@ public class AdminGUIView extends JFrame {
 
         JButton assignButton = createStyledButton("Assign Judge");
         assignButton.addActionListener(e -> assignJudgeAction());
+        JButton profileButton = createStyledButton("Judge Profile...");
+        profileButton.addActionListener(e -> editJudgeProfileAction());
+        JButton autoAssignButton = createStyledButton("Auto-Assign Judges...");
+        autoAssignButton.addActionListener(e -> autoAssignJudgesAction(autoAssignButton));
 
         controlPanel.add(new JLabel("Select Team (ID - Name):"));
         controlPanel.add(teamAssignCombo);
         controlPanel.add(new JLabel("Select Judge:"));
         controlPanel.add(judgeAssignCombo);
-        controlPanel.add(new JLabel("")); 
+        controlPanel.add(profileButton);
         controlPanel.add(assignButton);
+        controlPanel.add(new JLabel(""));
+        controlPanel.add(autoAssignButton);
         
         assignmentDisplayArea = new JTextArea();
         assignmentDisplayArea.setEditable(false);
@@ -334,14 +465,23 @@ public class AdminGUIView extends JFrame {
     }
     
     private void refreshAssignmentCombos() {
-        teamAssignCombo.removeAllItems();
-        List<AbstractHackathonTeam> sortedTeams = manager.getTeamList().getAllTeams();
-        sortedTeams.sort(Comparator.comparingInt(AbstractHackathonTeam::getTeamNumber)); 
+        dataService.submit("assignmentCombos", () -> {
+            List<AbstractHackathonTeam> sortedTeams = manager.getTeamList().getAllTeams();
+            sortedTeams.sort(Comparator.comparingInt(AbstractHackathonTeam::getTeamNumber));
+            List<String> items = new ArrayList<>(sortedTeams.size());
+            for (AbstractHackathonTeam team : sortedTeams) {
+                items.add(team.getTeamNumber() + " - " + team.getTeamName());
+            }
+            return items;
+        }, items -> {
+            // Swap the whole model in at once instead of firing an event per item
+            Object selected = teamAssignCombo.getSelectedItem();
+            teamAssignCombo.setModel(new DefaultComboBoxModel<>(new Vector<>(items)));
+            if (selected != null && items.contains(selected)) {
+                teamAssignCombo.setSelectedItem(selected);
+            }
+        });
 
-        for (AbstractHackathonTeam team : sortedTeams) {
-            teamAssignCombo.addItem(team.getTeamNumber() + " - " + team.getTeamName());
-        }
-        
         judgeAssignCombo.removeAllItems();
         for (String judge : manager.getAvailableJudges()) {
             judgeAssignCombo.addItem(judge);
@@ -360,7 +500,10 @@ public class AdminGUIView extends JFrame {
         try {
             int teamId = Integer.parseInt(selectedTeamString.split(" - ")[0]);
             
-            manager.assignJudge(teamId, selectedJudge);
+            if (!manager.assignJudge(teamId, selectedJudge)) {
+                JOptionPane.showMessageDialog(this, "Failed to assign the judge. The change could not be saved.", "Assignment Failed", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
             JOptionPane.showMessageDialog(this, selectedJudge + " assigned to Team ID " + teamId + " successfully.", "Assignment Success", JOptionPane.INFORMATION_MESSAGE);
             refreshAssignmentDisplay();
             
@@ -369,33 +512,131 @@ public class AdminGUIView extends JFrame {
         }
     }
 
+    // Edits the selected judge's university and category expertise, used by auto-assignment.
+    private void editJudgeProfileAction() {
+        String judge = (String) judgeAssignCombo.getSelectedItem();
+        if (judge == null) {
+            JOptionPane.showMessageDialog(this, "Please select a Judge.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        JudgeProfile current = manager.getJudgeProfile(judge);
+        JTextField universityField = new JTextField(current == null || current.getUniversity() == null ? "" : current.getUniversity());
+        JTextField expertiseField = new JTextField(current == null ? "" : String.join(", ", current.getExpertise()));
+
+        JPanel profilePanel = new JPanel(new GridLayout(2, 2, 5, 5));
+        profilePanel.add(new JLabel("University:"));
+        profilePanel.add(universityField);
+        profilePanel.add(new JLabel("Expert in (comma-separated categories):"));
+        profilePanel.add(expertiseField);
+
+        int result = JOptionPane.showConfirmDialog(this, profilePanel,
+                "Judge Profile for " + judge, JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE);
+        if (result != JOptionPane.OK_OPTION) return;
+
+        List<String> expertise = new ArrayList<>();
+        for (String category : expertiseField.getText().split(",")) {
+            if (!category.trim().isEmpty()) {
+                expertise.add(category.trim());
+            }
+        }
+        manager.setJudgeProfile(new JudgeProfile(judge, universityField.getText(), expertise));
+    }
+
+    // Replaces all assignments with balanced panels of the requested size and shows the balance report.
+    private void autoAssignJudgesAction(JButton autoAssignButton) {
+        String input = JOptionPane.showInputDialog(this, "Judges per team:", "2");
+        if (input == null) return;
+        int judgesPerTeam;
+        try {
+            judgesPerTeam = Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Judges per team must be a whole number.", "Validation Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (judgesPerTeam < 1) {
+            JOptionPane.showMessageDialog(this, "Each team needs at least one judge.", "Validation Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        autoAssignButton.setEnabled(false);
+        dataService.submitWrite("autoAssign", () -> manager.autoAssignJudges(judgesPerTeam), result -> {
+            autoAssignButton.setEnabled(true);
+            JTextArea report = new JTextArea(result.getSummary());
+            report.setEditable(false);
+            report.setFont(MONOSPACE_FONT);
+            JOptionPane.showMessageDialog(this, report, "Auto-Assignment Complete", JOptionPane.INFORMATION_MESSAGE);
+        }, error -> {
+            autoAssignButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Auto-assignment failed: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
     private void refreshAssignmentDisplay() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(String.format("%-10s %-30s %s%n", "TEAM ID", "TEAM NAME", "ASSIGNED JUDGE"));
-        sb.append("------------------------------------------------------------------------\n");
-        
-        Map<Integer, String> assignments = manager.getJudgeAssignments();
-        
-        List<AbstractHackathonTeam> sortedTeams = manager.getTeamList().getAllTeams();
-        sortedTeams.sort(Comparator.comparingInt(AbstractHackathonTeam::getTeamNumber));
+        dataService.submit("assignmentDisplay", this::buildAssignmentDisplay, assignmentDisplayArea::setText);
+    }
 
-        for (AbstractHackathonTeam team : sortedTeams) {
-            String judge = assignments.getOrDefault(team.getTeamNumber(), "Unassigned");
-            sb.append(String.format("%-10d %-30s %s%n", team.getTeamNumber(), team.getTeamName(), judge));
+    // Runs off the EDT. Lists each judge's teams in work-queue order, straight from the judge index.
+    private String buildAssignmentDisplay() {
+        TeamList teamList = manager.getTeamList();
+        List<String> judges = new ArrayList<>(manager.getAvailableJudges());
+        for (String judge : teamList.getJudgesWithTeams()) {
+            if (!judges.contains(judge)) {
+                judges.add(judge);
+            }
         }
-        
-        assignmentDisplayArea.setText(sb.toString());
+
+        StringBuilder sb = new StringBuilder();
+        for (String judge : judges) {
+            List<AbstractHackathonTeam> queue = teamList.getTeamsForJudge(judge);
+            int unscored = teamList.getUnscoredTeamsForJudge(judge).size();
+            sb.append(String.format("%s (%d teams, %d unscored)%n", judge, queue.size(), unscored));
+            JudgeBias bias = teamList.getJudgeBias(judge);
+            if (bias != null) {
+                sb.append("  Scoring so far: ").append(bias).append('\n');
+            }
+            if (queue.isEmpty()) {
+                sb.append("\n");
+                continue;
+            }
+            sb.append(String.format("  %-10s %-30s %s%n", "TEAM ID", "TEAM NAME", "STATUS"));
+            sb.append("  ----------------------------------------------------------\n");
+            // Unscored teams are at the front of the queue
+            for (int i = 0; i < queue.size(); i++) {
+                AbstractHackathonTeam team = queue.get(i);
+                sb.append(String.format("  %-10d %-30s %s%n", team.getTeamNumber(), team.getTeamName(), i < unscored ? "Unscored" : "Scored"));
+            }
+            sb.append("\n");
+        }
+        // A team judged by a panel appears under each of its judges, so count teams, not queue entries
+        sb.append("Unassigned teams: ").append(Math.max(0, teamList.getTeamCount() - teamList.getJudgeAssignments().size())).append('\n');
+        return sb.toString();
     }
     
     private AbstractHackathonTeam getTeamById(int teamId) {
-        for (AbstractHackathonTeam team : manager.getTeamList().getAllTeams()) {
-            if (team.getTeamNumber() == teamId) {
-                return team;
-            }
-        }
-        return null;
+        return manager.getTeamList().findTeamByNumber(teamId);
     }
     
+    // Writes the ranked report as .txt, .csv or .jsonl, chosen by the file name's extension.
+    private void exportReportAction(JButton exportButton) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("HackathonReport.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        Path path = chooser.getSelectedFile().toPath();
+        ReportWriter.Format format = ReportWriter.Format.forFileName(path.getFileName().toString());
+        exportButton.setEnabled(false);
+        dataService.submitWrite("exportReport", () -> {
+            manager.writeReport(format, path);
+            return path;
+        }, written -> {
+            exportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Report written to " + written, "Export Complete", JOptionPane.INFORMATION_MESSAGE);
+        }, error -> {
+            exportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Could not write the report: " + error.getMessage(), "Export Failed", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
     private void editTeamAction() {
         int selectedRow = teamTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -404,7 +645,7 @@ public class AdminGUIView extends JFrame {
         }
 
         try {
-            int teamId = (int) tableModel.getValueAt(selectedRow, 0);
+            int teamId = tableModel.getTeamAt(selectedRow).getTeamNumber();
             AbstractHackathonTeam team = getTeamById(teamId);
 
             if (team == null) {
@@ -488,25 +729,19 @@ public class AdminGUIView extends JFrame {
     }
     
     private void refreshTable(String categoryFilter) {
-        tableModel.setRowCount(0);
+        // A newer refresh (e.g. the filter changed again) cancels this one
+        dataService.submit("table", () -> buildTableSnapshot(categoryFilter), tableModel::setSnapshot);
+    }
 
-        List<AbstractHackathonTeam> allTeams = manager.getTeamList().getTeamsSortedByScore();
-        
-        List<AbstractHackathonTeam> filteredTeams = allTeams.stream()
-            .filter(team -> categoryFilter == null || "ALL CATEGORIES".equals(categoryFilter) || team.getCategory().equals(categoryFilter))
-            .toList();
-            
-        for (AbstractHackathonTeam team : filteredTeams) {
-            Object[] row = new Object[] {
-                team.getTeamNumber(),
-                team.getTeamName(),
-                team.getCategory(),
-                team.getUniversity(),
-                team.isEligibility() ? "Yes" : "No",
-                String.format("%.2f", team.getOverallScore())
-            };
-            tableModel.addRow(row);
+    // Runs off the EDT.
+    private TeamTableModel.Snapshot buildTableSnapshot(String categoryFilter) {
+        // Read before the teams, so a rule change in between only leaves the rows stale-tagged
+        int rulesGeneration = manager.getTeamList().getScoringRules().getGeneration();
+        if (categoryFilter == null || "ALL CATEGORIES".equals(categoryFilter)) {
+            return new TeamTableModel.Snapshot(manager.getTeamList().getTeamsSortedByScore(), rulesGeneration);
         }
+        // Read straight from the category's own leaderboard
+        return new TeamTableModel.Snapshot(manager.getTeamList().getTeamsSortedByScore(categoryFilter), rulesGeneration);
     }
 
     private void loadData() {
@@ -521,9 +756,14 @@ public class AdminGUIView extends JFrame {
     }
     
     private void updateSummary() {
+        dataService.submit("summary", this::buildSummary, summaryArea::setText);
+    }
+
+    // Runs off the EDT.
+    private String buildSummary() {
         AbstractHackathonTeam topTeam = manager.getTeamList().getTopTeam();
         double avgScore = manager.getTeamList().calculateAverageOverallScore();
-        int totalTeams = manager.getTeamList().getAllTeams().size();
+        int totalTeams = manager.getTeamList().getTeamCount();
         
         StringBuilder summary = new StringBuilder();
         summary.append("--- HACKATHON OVERVIEW ---\n");
@@ -535,8 +775,7 @@ public class AdminGUIView extends JFrame {
         } else {
             summary.append("Top Team: N/A\n");
         }
-        
-        summaryArea.setText(summary.toString());
+        return summary.toString();
     }
     
     private void removeTeam() {
@@ -561,4 +800,60 @@ public class AdminGUIView extends JFrame {
         }
     }
 
+    /**
+     * Applies one frame of changes: views whose order can change are re-snapshotted (the table
+     * model then fires events only for rows that moved or changed); the rest repaint in place.
+     */
+    private void teamsChanged(TeamChangeCoalescer.Batch batch) {
+        if (batch.affectsRanking()) {
+            refreshTable((String) filterCategoryCombo.getSelectedItem());
+            updateSummary();
+        } else {
+            tableModel.refreshTeams(batch.getTeamNumbers());
+        }
+        boolean namesChanged = batch.isStructural() || batch.contains(TeamChangeEvent.Type.DETAILS_UPDATED);
+        if (namesChanged) {
+            refreshAssignmentCombos();
+        }
+        // Scoring moves teams within their judge's queue
+        if (namesChanged || batch.contains(TeamChangeEvent.Type.JUDGE_ASSIGNED)
+                || batch.contains(TeamChangeEvent.Type.SCORES_UPDATED)) {
+            refreshAssignmentDisplay();
+        }
+        if (batch.contains(TeamChangeEvent.Type.CATEGORIES_EDITED)) {
+            refreshCategoryList();
+            populateFilterCombo();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        manager.removeTeamChangeListener(changeListener);
+        changeListener.stop();
+        dataService.cancelAll();
+        super.dispose();
+    }
+
+    // Centered overall score with two decimals, formatted like the report instead of String.format per repaint.
+    private static class ScoreRenderer extends DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+        // Renderers only run on the EDT, so one buffer serves every cell
+        private final StringBuilder text = new StringBuilder(8);
+
+        ScoreRenderer() {
+            setHorizontalAlignment(JLabel.CENTER);
+        }
+
+        @Override
+        protected void setValue(Object value) {
+            if (value == null) {
+                setText("");
+                return;
+            }
+            text.setLength(0);
+            ReportWriter.appendFixed2(text, (Double) value);
+            setText(text.toString());
+        }
+    }
+
 }
@@ -0,0 +1,155 @@
+package hackathonsystem.view;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+/**
+ * Runs the data loading and report generation behind the Swing views on background threads.
+ *
+ * Work is submitted under a key (e.g. "table"). Submitting again under the same key supersedes
+ * the earlier job: it is cancelled and its result discarded, so rapid refreshes never pile up
+ * or publish out of order. The result of the latest job is handed to the Event Dispatch Thread
+ * in a single callback, so each view updates in one step. Use one service per window.
+ *
+ * Only read-only jobs may be superseded like that. Jobs that change data or write files go
+ * through submitWrite: they run one at a time in submission order and are never cancelled, as
+ * interrupting one could interrupt its I/O halfway (see MutationLog).
+ */
+public class BackgroundDataService {
+
+    // Computes a result off the EDT; must not touch Swing components.
+    public interface Job<T> {
+        T call() throws Exception;
+    }
+
+    // Latest job per key; only read and written on the EDT
+    private final Map<String, Worker<?>> current = new HashMap<>();
+    // Write jobs in submission order, the first one running; only used on the EDT
+    private final ArrayDeque<Worker<?>> writes = new ArrayDeque<>();
+    // Set by cancelAll: writes still finish, but their callbacks no longer run
+    private boolean closed;
+
+    public <T> void submit(String key, Job<T> job, Consumer<T> onResult) {
+        submit(key, job, onResult, e ->
+            System.err.println("Error: background task '" + key + "' failed. Details: " + e.getMessage()));
+    }
+
+    /**
+     * Starts the job on a background thread, cancelling any job still running under the same key.
+     * Exactly one of onResult or onError runs on the EDT, unless the job is superseded first.
+     */
+    public <T> void submit(String key, Job<T> job, Consumer<T> onResult, Consumer<Exception> onError) {
+        checkEventDispatchThread();
+        Worker<?> previous = current.get(key);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        Worker<T> worker = new Worker<>(key, job, onResult, onError, false);
+        current.put(key, worker);
+        worker.execute();
+    }
+
+    public <T> void submitWrite(String name, Job<T> job, Consumer<T> onResult) {
+        submitWrite(name, job, onResult, e ->
+            System.err.println("Error: background task '" + name + "' failed. Details: " + e.getMessage()));
+    }
+
+    /**
+     * Queues a job that changes data or writes files. It starts once every earlier write has
+     * finished and is never cancelled or superseded; onResult or onError runs on the EDT unless
+     * the window has been closed by then.
+     */
+    public <T> void submitWrite(String name, Job<T> job, Consumer<T> onResult, Consumer<Exception> onError) {
+        checkEventDispatchThread();
+        Worker<T> worker = new Worker<>(name, job, onResult, onError, true);
+        writes.add(worker);
+        if (writes.size() == 1) {
+            worker.execute();
+        }
+    }
+
+    private static void checkEventDispatchThread() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            throw new IllegalStateException("BackgroundDataService jobs must be submitted on the Event Dispatch Thread");
+        }
+    }
+
+    public boolean isRunning(String key) {
+        return current.containsKey(key);
+    }
+
+    /**
+     * Cancels every pending read job, e.g. when the window is closed. Writes already submitted
+     * still run to completion, without their callbacks.
+     */
+    public void cancelAll() {
+        for (Worker<?> worker : new ArrayList<>(current.values())) {
+            worker.cancel(true);
+        }
+        current.clear();
+        closed = true;
+    }
+
+    private final class Worker<T> extends SwingWorker<T, Void> {
+        private final String key;
+        private final Job<T> job;
+        private final Consumer<T> onResult;
+        private final Consumer<Exception> onError;
+        private final boolean write;
+
+        Worker(String key, Job<T> job, Consumer<T> onResult, Consumer<Exception> onError, boolean write) {
+            this.key = key;
+            this.job = job;
+            this.onResult = onResult;
+            this.onError = onError;
+            this.write = write;
+        }
+
+        @Override
+        protected T doInBackground() throws Exception {
+            return job.call();
+        }
+
+        @Override
+        protected void done() {
+            if (write) {
+                writes.remove();
+                Worker<?> next = writes.peek();
+                if (next != null) {
+                    next.execute();
+                }
+            } else if (current.get(key) != this) {
+                // Superseded or cancelled by a newer submission
+                return;
+            } else {
+                current.remove(key);
+            }
+            T result;
+            try {
+                result = get();
+            } catch (CancellationException | InterruptedException e) {
+                return;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                Exception error = cause instanceof Exception ? (Exception) cause : new Exception(cause);
+                if (write && closed) {
+                    // The window is gone, so the failure can only be logged
+                    System.err.println("Error: background task '" + key + "' failed. Details: " + error.getMessage());
+                } else {
+                    onError.accept(error);
+                }
+                return;
+            }
+            if (!(write && closed)) {
+                onResult.accept(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structure-of-arrays mirror of the registered teams for analytics over large events.
+ * Each team occupies one slot: its number in an int[], its five scores packed into a byte[],
+ * eligibility in a bitset, its category as an interned short id and its overall score in a
+ * double[]. Removal swaps the last slot into the hole, so slots stay dense.
+ *
+ * The team objects remain the source of truth; TeamList copies their state into the slot
+ * whenever a team is added, changed or removed, and a bulk rescore rewrites whole categories
+ * from the flat arrays it scored them from (see putAll). TeamList.enableColumnarStore opts in.
+ */
+public class ColumnarTeamStore {
+
+    private static final int CRITERIA = 5;
+
+    private int size;
+    private int[] teamNumbers = new int[16];
+    private byte[] scores = new byte[16 * CRITERIA];
+    private long[] eligible = new long[1];
+    private short[] categoryIds = new short[16];
+    private double[] overallScores = new double[16];
+
+    private final Map<Integer, Integer> slotByTeam = new HashMap<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private final Map<String, Short> categoryIdByName = new HashMap<>();
+
+    public void put(AbstractHackathonTeam team) {
+        Integer slot = slotByTeam.get(team.getTeamNumber());
+        if (slot == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slotByTeam.put(team.getTeamNumber(), slot);
+        }
+        write(slot, team);
+    }
+
+    /**
+     * Writes the columns of n teams of one category at once, from flat arrays such as the ones
+     * TeamRescorer fills (scores packed five per team), without touching the team objects.
+     */
+    public void putAll(String category, int[] numbers, int[] packedScores, boolean[] eligibility, double[] overall, int n) {
+        short categoryId = categoryId(category);
+        ensureCapacity(size + n);
+        for (int i = 0; i < n; i++) {
+            Integer slot = slotByTeam.get(numbers[i]);
+            if (slot == null) {
+                slot = size++;
+                slotByTeam.put(numbers[i], slot);
+            }
+            teamNumbers[slot] = numbers[i];
+            int base = slot * CRITERIA;
+            for (int c = 0; c < CRITERIA; c++) {
+                scores[base + c] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, packedScores[i * CRITERIA + c]));
+            }
+            setEligible(slot, eligibility[i]);
+            categoryIds[slot] = categoryId;
+            overallScores[slot] = overall[i];
+        }
+    }
+
+    public boolean remove(int teamNumber) {
+        Integer slot = slotByTeam.remove(teamNumber);
+        if (slot == null) {
+            return false;
+        }
+        int last = --size;
+        if (slot != last) {
+            teamNumbers[slot] = teamNumbers[last];
+            System.arraycopy(scores, last * CRITERIA, scores, slot * CRITERIA, CRITERIA);
+            setEligible(slot, isEligible(last));
+            categoryIds[slot] = categoryIds[last];
+            overallScores[slot] = overallScores[last];
+            slotByTeam.put(teamNumbers[slot], slot);
+        }
+        setEligible(last, false);
+        return true;
+    }
+
+    public void clear() {
+        size = 0;
+        slotByTeam.clear();
+        Arrays.fill(eligible, 0L);
+    }
+
+    private void write(int slot, AbstractHackathonTeam team) {
+        teamNumbers[slot] = team.getTeamNumber();
+        int base = slot * CRITERIA;
+        for (int i = 0; i < CRITERIA; i++) {
+            // Valid scores are 0-5; anything else is clamped into byte range
+            scores[base + i] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, team.getScore(i)));
+        }
+        setEligible(slot, team.isEligibility());
+        categoryIds[slot] = categoryId(team.getCategory());
+        overallScores[slot] = team.getOverallScore();
+    }
+
+    private short categoryId(String category) {
+        Short id = categoryIdByName.get(category);
+        if (id == null) {
+            if (categoryNames.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct categories");
+            }
+            id = (short) categoryNames.size();
+            categoryNames.add(category);
+            categoryIdByName.put(category, id);
+        }
+        return id;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= teamNumbers.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, teamNumbers.length * 2);
+        teamNumbers = Arrays.copyOf(teamNumbers, newCapacity);
+        scores = Arrays.copyOf(scores, newCapacity * CRITERIA);
+        categoryIds = Arrays.copyOf(categoryIds, newCapacity);
+        overallScores = Arrays.copyOf(overallScores, newCapacity);
+        eligible = Arrays.copyOf(eligible, (newCapacity + 63) >>> 6);
+    }
+
+    private boolean isEligible(int slot) {
+        return (eligible[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    private void setEligible(int slot, boolean value) {
+        if (value) {
+            eligible[slot >>> 6] |= 1L << slot;
+        } else {
+            eligible[slot >>> 6] &= ~(1L << slot);
+        }
+    }
+
+    // --- Column access for bulk analytics ---
+
+    public int size() { return size; }
+    public int getTeamNumber(int slot) { return teamNumbers[slot]; }
+    public int getScore(int slot, int criterion) { return scores[slot * CRITERIA + criterion]; }
+    public boolean isEligibleAt(int slot) { return isEligible(slot); }
+    public short getCategoryId(int slot) { return categoryIds[slot]; }
+    public double getOverallScore(int slot) { return overallScores[slot]; }
+    public int getCategoryCount() { return categoryNames.size(); }
+    public String getCategoryName(short id) { return categoryNames.get(id); }
+
+    public int slotOf(int teamNumber) {
+        Integer slot = slotByTeam.get(teamNumber);
+        return slot == null ? -1 : slot;
+    }
+
+    // --- Tight-loop statistics ---
+
+    public int[] scoreFrequency() {
+        int[] frequency = new int[11];
+        byte[] packed = scores;
+        for (int i = 0, n = size * CRITERIA; i < n; i++) {
+            int score = packed[i];
+            if (score >= 0 && score <= 10) {
+                frequency[score]++;
+            }
+        }
+        return frequency;
+    }
+
+    public double overallScoreSum() {
+        double sum = 0;
+        double[] overall = overallScores;
+        for (int i = 0; i < size; i++) {
+            sum += overall[i];
+        }
+        return sum;
+    }
+
+    public int eligibleCount() {
+        int count = 0;
+        int words = (size + 63) >>> 6;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(eligible[i]);
+        }
+        return count;
+    }
+
+    // Team count per category id.
+    public int[] categoryCounts() {
+        int[] counts = new int[categoryNames.size()];
+        for (int i = 0; i < size; i++) {
+            counts[categoryIds[i]]++;
+        }
+        return counts;
+    }
+
+    // Overall score sum per category id.
+    public double[] categoryScoreSums() {
+        double[] sums = new double[categoryNames.size()];
+        for (int i = 0; i < size; i++) {
+            sums[categoryIds[i]] += overallScores[i];
+        }
+        return sums;
+    }
+
+    // Mean of each criterion over all teams.
+    public double[] criterionAverages() {
+        long[] sums = new long[CRITERIA];
+        for (int slot = 0; slot < size; slot++) {
+            int base = slot * CRITERIA;
+            for (int i = 0; i < CRITERIA; i++) {
+                sums[i] += scores[base + i];
+            }
+        }
+        double[] averages = new double[CRITERIA];
+        for (int i = 0; i < CRITERIA; i++) {
+            averages[i] = size == 0 ? 0.0 : (double) sums[i] / size;
+        }
+        return averages;
+    }
+}
@@ -0,0 +1,149 @@
+package hackathonsystem.benchmark;
+
+import hackathonsystem.controller.TeamCsvParser;
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.WebDevTeam;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares load throughput of the streaming and parallel TeamCsvParser paths against the
+ * original readLine/split loader on a synthetic HackathonTeams.csv.
+ *
+ * Usage: java hackathonsystem.benchmark.CsvLoadBenchmark [rows] [iterations]
+ */
+public class CsvLoadBenchmark {
+
+    private static final String[] CATEGORIES = {"Cybersecurity", "Web Development", "Mobile Applications",
+        "Artificial Intelligence", "Data Science", "Cloud Computing", "Sustainability Tech"};
+    private static final String[] UNIVERSITIES = {"UM", "UTM", "UKM", "USM", "UMS", "UiTM", "SEGI"};
+    private static final String[] WORDS = {"Code", "Cyber", "Data", "Web", "Secure", "Quantum", "App", "Cloud", "Dev", "Vision"};
+    private static final String[] SUFFIXES = {"Innovators", "Titans", "Pioneers", "Hackers", "Minds", "Gurus", "Coders", "Builders"};
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path file = Files.createTempFile("hackathon-bench", ".csv");
+        try {
+            writeSyntheticCsv(file, rows, 42);
+            System.out.printf("Synthetic CSV: %,d rows, %,d bytes%n", rows, Files.size(file));
+            for (int i = 0; i < iterations; i++) {
+                long legacy = time(() -> loadLegacy(file));
+                long streaming = time(() -> loadStreaming(file));
+                long parallel = time(() -> loadParallel(file));
+                System.out.printf("run %d: legacy %6d ms (%,10.0f rows/s) | streaming %6d ms (%,10.0f rows/s) | parallel %6d ms (%,10.0f rows/s)%n",
+                    i + 1, legacy, rows * 1000.0 / Math.max(1, legacy), streaming, rows * 1000.0 / Math.max(1, streaming),
+                    parallel, rows * 1000.0 / Math.max(1, parallel));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Writes rows in the HackathonTeams.csv schema: id,name,university,category,,s1..s5.
+     */
+    public static void writeSyntheticCsv(Path file, int rows, long seed) throws IOException {
+        Random random = new Random(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write('\uFEFF');
+            for (int i = 0; i < rows; i++) {
+                writer.write(Integer.toString(100 + i));
+                writer.write(',');
+                writer.write(WORDS[random.nextInt(WORDS.length)]);
+                writer.write(' ');
+                writer.write(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+                writer.write(',');
+                writer.write(UNIVERSITIES[random.nextInt(UNIVERSITIES.length)]);
+                writer.write(',');
+                writer.write(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                writer.write(',');
+                for (int s = 0; s < 5; s++) {
+                    writer.write(',');
+                    writer.write((char) ('0' + random.nextInt(6)));
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    private interface Load {
+        int run() throws IOException;
+    }
+
+    private static long time(Load load) throws IOException {
+        long start = System.nanoTime();
+        int loaded = load.run();
+        if (loaded == 0) {
+            throw new IllegalStateException("nothing loaded");
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static int loadStreaming(Path file) throws IOException {
+        List<AbstractHackathonTeam> teams = new ArrayList<>();
+        new TeamCsvParser().parseFile(file, collectInto(teams));
+        return teams.size();
+    }
+
+    private static int loadParallel(Path file) throws IOException {
+        List<AbstractHackathonTeam> teams = new ArrayList<>();
+        TeamCsvParser.parseFileParallel(file, collectInto(teams));
+        return teams.size();
+    }
+
+    private static TeamCsvParser.Sink collectInto(List<AbstractHackathonTeam> teams) {
+        return new TeamCsvParser.Sink() {
+            @Override
+            public void team(int lineNumber, AbstractHackathonTeam team) {
+                teams.add(team);
+            }
+
+            @Override
+            public void error(int lineNumber, String message) {
+            }
+        };
+    }
+
+    // The original HackathonManager.readTeamDataFromFile loop, kept here as the baseline.
+    private static int loadLegacy(Path file) throws IOException {
+        List<AbstractHackathonTeam> teams = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new FileReader(file.toFile(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.replace("\uFEFF", "").trim();
+                if (line.isEmpty() || line.startsWith("Team ID")) continue;
+                String[] parts = line.split(",");
+                if (parts.length < 9) continue;
+                try {
+                    int teamNumber = Integer.parseInt(parts[0].trim());
+                    String teamName = parts[1].trim();
+                    String university = parts[2].trim();
+                    String category = parts[3].trim();
+                    String initials = (teamName.contains(" ") ?
+                        (teamName.substring(0, 1) + teamName.substring(teamName.lastIndexOf(" ") + 1, teamName.lastIndexOf(" ") + 2))
+                        : teamName.substring(0, Math.min(2, teamName.length()))).toUpperCase();
+                    int[] scores = new int[5];
+                    for (int s = 0; s < 5; s++) {
+                        scores[s] = Integer.parseInt(parts[5 + s].trim());
+                    }
+                    boolean wdAttribute = teamName.toLowerCase().contains("web") || category.toLowerCase().contains("web") || teamName.toLowerCase().contains("dev");
+                    boolean bonus = category.equalsIgnoreCase("Web Development") && wdAttribute;
+                    teams.add(new WebDevTeam(teamNumber, teamName, category, university, true, initials, scores, bonus));
+                } catch (RuntimeException e) {
+                    // ignored in the benchmark
+                }
+            }
+        }
+        return teams.size();
+    }
+}
@@ -13,26 +13,33 @@ public class CybersecurityTeam extends AbstractHackathonTeam {
     }
 
     /**
-     * Calculates the overall score (0-5) using a weighted average specific to Cybersecurity.
+     * Calculates the overall score (0-5) with the category's configured rule, or by default the
+     * weighted average specific to Cybersecurity.
      */
-   @Override
-public double getOverallScore() {
-    if (!eligibility) {
-        return 0.0;
+    @Override
+    protected double computeOverallScore() {
+        return scoreBy(getScoringRule(), adheresToSecurityStandards);
     }
-    double weightedScore = 
-        (scores[0] * 0.10) +  
-        (scores[1] * 0.15) +  
-        (scores[2] * 0.30) +  
-        (scores[3] * 0.25) +  
-        (scores[4] * 0.20);   
-    if (adheresToSecurityStandards) {
-        weightedScore += 0.5; 
+
+    @Override
+    public ScoringRule getScoringRule() {
+        return ruleFor(getDefaultScoringRule());
     }
-    weightedScore = Math.max(0, weightedScore);
-    return Math.min(5.0, weightedScore); 
-}
-    
+
+    @Override
+    public ScoringRule getDefaultScoringRule() {
+        return ScoringRule.CYBERSECURITY;
+    }
+
+    @Override
+    public boolean hasScoringAttribute() {
+        return adheresToSecurityStandards;
+    }
+
+    public boolean adheresToSecurityStandards() {
+        return adheresToSecurityStandards;
+    }
+
     @Override
     public String getUniqueAttributeDetails() {
         return String.format("Unique Attribute: Adheres to Security Standards: %s", adheresToSecurityStandards ? "Yes (Bonus Applied)" : "No");
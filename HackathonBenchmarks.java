@@ -0,0 +1,292 @@
+package hackathonsystem.benchmark;
+
+import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.JudgeAssignmentSolver;
+import hackathonsystem.controller.ReportWriter;
+import hackathonsystem.controller.TeamList;
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.JudgeProfile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Micro-benchmark suite for the controller hot paths, run against synthetic events generated
+ * in the HackathonTeams.csv schema. Each benchmark is warmed up and then measured over several
+ * timed iterations; results are printed as average time per operation.
+ *
+ * Usage: java hackathonsystem.benchmark.HackathonBenchmarks [sizes] [filter]
+ *   sizes  comma-separated team counts, default 1000,100000,1000000
+ *   filter only run benchmarks whose name contains this text
+ *
+ * From Ant: ant benchmark -Dbenchmark.args="1000,100000 sorted"
+ */
+public class HackathonBenchmarks {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+    // Minimum time per iteration, so that fast operations are batched into measurable runs
+    private static final long MIN_ITERATION_NANOS = 100_000_000L;
+
+    // Consumes results so the JIT cannot eliminate the measured work
+    private static volatile long blackhole;
+
+    private interface Operation {
+        long run() throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = {1_000, 100_000, 1_000_000};
+        if (args.length > 0) {
+            String[] parts = args[0].split(",");
+            sizes = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                sizes[i] = Integer.parseInt(parts[i].trim());
+            }
+        }
+        String filter = args.length > 1 ? args[1] : "";
+
+        System.out.printf("%-32s %10s %16s %16s%n", "Benchmark", "Teams", "Avg time/op", "Ops/s");
+        for (int size : sizes) {
+            runDataset(size, filter);
+        }
+    }
+
+    private static void runDataset(int size, String filter) throws IOException {
+        Path csv = Files.createTempFile("hackathon-bench", ".csv");
+        Path report = Files.createTempFile("hackathon-bench", ".txt");
+        try {
+            CsvLoadBenchmark.writeSyntheticCsv(csv, size, 42);
+            HackathonManager manager = new HackathonManager();
+            quietly(() -> manager.readTeamDataFromFile(csv.toString(), true));
+            TeamList teamList = manager.getTeamList();
+            int[] lookupKeys = lookupKeys(teamList, 4096);
+
+            run("findTeamByNumber", size, filter, () -> {
+                long found = 0;
+                for (int key : lookupKeys) {
+                    AbstractHackathonTeam team = teamList.findTeamByNumber(key);
+                    found += team == null ? 0 : team.getTeamNumber();
+                }
+                return found;
+            }, lookupKeys.length);
+            // Type-ahead as staff type: prefixes, multi-word, infix, a university and a miss
+            String[] queries = {"s", "sec", "secure mi", "curity", "um", "data sci", "titans utm", "zzz"};
+            run("searchTeams top 10", size, filter, () -> {
+                long found = 0;
+                for (String query : queries) {
+                    found += teamList.searchTeams(query, 10).size();
+                }
+                return found;
+            }, queries.length);
+            run("getTeamsSortedByScore", size, filter, () -> teamList.getTeamsSortedByScore().size(), 1);
+            run("getTeamsSortedByScore(category)", size, filter,
+                () -> teamList.getTeamsSortedByScore("Cybersecurity").size(), 1);
+            run("isCategoryInUse", size, filter, () -> teamList.isCategoryInUse("Data Science") ? 1 : 0, 1);
+            run("calculateAverageOverallScore", size, filter, () -> (long) teamList.calculateAverageOverallScore(), 1);
+            run("calculateScoreFrequency", size, filter, () -> teamList.calculateScoreFrequency()[3], 1);
+            run("rescoreAllTeams", size, filter, () -> {
+                manager.rescoreAllTeams();
+                return teamList.getTeamCount();
+            }, 1);
+            run("readTeamDataFromFile", size, filter, () -> {
+                HackathonManager fresh = new HackathonManager();
+                quietly(() -> fresh.readTeamDataFromFile(csv.toString(), true));
+                return fresh.getTeamList().getTeamCount();
+            }, 1);
+            run("generateReportAndWriteToFile", size, filter, () -> {
+                quietly(() -> manager.generateReportAndWriteToFile(report.toString()));
+                return Files.size(report);
+            }, 1);
+            int[] changedScores = {1, 2, 3, 4, 5};
+            run("generateReport, 1 team changed", size, filter, () -> {
+                // Rotate the scores so every call changes the team and moves it on the leaderboard
+                int first = changedScores[0];
+                System.arraycopy(changedScores, 1, changedScores, 0, changedScores.length - 1);
+                changedScores[changedScores.length - 1] = first;
+                manager.updateTeamScores(lookupKeys[0], changedScores);
+                quietly(() -> manager.generateReportAndWriteToFile(report.toString()));
+                return Files.size(report);
+            }, 1);
+            run("writeReport TEXT", size, filter, () -> {
+                manager.writeReport(ReportWriter.Format.TEXT, report);
+                return Files.size(report);
+            }, 1);
+            run("writeReport CSV", size, filter, () -> {
+                manager.writeReport(ReportWriter.Format.CSV, report);
+                return Files.size(report);
+            }, 1);
+            run("writeReport JSONL", size, filter, () -> {
+                manager.writeReport(ReportWriter.Format.JSONL, report);
+                return Files.size(report);
+            }, 1);
+            JudgeAssignmentSolver solver = syntheticSolver(200, 3);
+            run("JudgeAssignmentSolver 200x3", size, filter,
+                () -> solver.solve(teamList.getAllTeams()).getAssignments().size(), 1);
+
+            // Spread every team over the judges, then pull each judge's next team as JudgeGUIView does
+            List<String> judges = teamList.getAvailableJudges();
+            int judgeIndex = 0;
+            for (AbstractHackathonTeam team : teamList.getAllTeams()) {
+                teamList.assignJudgeToTeam(team.getTeamNumber(), judges.get(judgeIndex++ % judges.size()));
+            }
+            run("getNextTeamForJudge", size, filter, () -> {
+                long found = 0;
+                for (String judge : judges) {
+                    found += teamList.getNextTeamForJudge(judge).getTeamNumber();
+                }
+                return found;
+            }, judges.size());
+            // Each judge submits for the same teams, so every call replaces or adds one panel submission
+            int[] judgeScores = {4, 3, 5, 2, 4};
+            run("submitJudgeScores", size, filter, () -> {
+                long applied = 0;
+                for (int i = 0; i < lookupKeys.length; i++) {
+                    judgeScores[i % judgeScores.length] = i % 6;
+                    applied += manager.submitJudgeScores(judges.get(i % judges.size()), lookupKeys[i], judgeScores) ? 1 : 0;
+                }
+                return applied;
+            }, lookupKeys.length);
+            // Same submissions with normalization on for this manager: drifting judges re-rank only the teams they scored
+            manager.setJudgeNormalization(true);
+            run("submitJudgeScores, normalized", size, filter, () -> {
+                long applied = 0;
+                for (int i = 0; i < lookupKeys.length; i++) {
+                    judgeScores[i % judgeScores.length] = i % 6;
+                    applied += manager.submitJudgeScores(judges.get(i % judges.size()), lookupKeys[i], judgeScores) ? 1 : 0;
+                }
+                return applied;
+            }, lookupKeys.length);
+
+            // Whole-list scans over the team objects, then over the opt-in columnar store
+            run("criterionAverages", size, filter, () -> (long) teamList.calculateCriterionAverages()[0], 1);
+            run("getEligibleTeamCount", size, filter, teamList::getEligibleTeamCount, 1);
+            run("recalculateStatistics", size, filter, () -> {
+                teamList.recalculateStatistics();
+                return teamList.getTeamCount();
+            }, 1);
+            run("updateTeamScores", size, filter, () -> {
+                long applied = 0;
+                for (int i = 0; i < lookupKeys.length; i++) {
+                    changedScores[i % changedScores.length] = i % 6;
+                    applied += manager.updateTeamScores(lookupKeys[i], changedScores) ? 1 : 0;
+                }
+                return applied;
+            }, lookupKeys.length);
+            teamList.enableColumnarStore();
+            run("criterionAverages, columnar", size, filter, () -> (long) teamList.calculateCriterionAverages()[0], 1);
+            run("getEligibleTeamCount, columnar", size, filter, teamList::getEligibleTeamCount, 1);
+            run("recalculateStatistics, columnar", size, filter, () -> {
+                teamList.recalculateStatistics();
+                return teamList.getTeamCount();
+            }, 1);
+            run("rescoreAllTeams, columnar", size, filter, () -> {
+                manager.rescoreAllTeams();
+                return teamList.getTeamCount();
+            }, 1);
+            run("updateTeamScores, columnar", size, filter, () -> {
+                long applied = 0;
+                for (int i = 0; i < lookupKeys.length; i++) {
+                    changedScores[i % changedScores.length] = i % 6;
+                    applied += manager.updateTeamScores(lookupKeys[i], changedScores) ? 1 : 0;
+                }
+                return applied;
+            }, lookupKeys.length);
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(report);
+        }
+    }
+
+    // Judges with one or two areas of expertise each; one in five has no university affiliation.
+    private static JudgeAssignmentSolver syntheticSolver(int judgeCount, int judgesPerTeam) {
+        String[] categories = {"Cybersecurity", "Web Development", "Mobile Applications",
+            "Artificial Intelligence", "Data Science", "Cloud Computing", "Sustainability Tech"};
+        String[] universities = {"UM", "UTM", "UKM", "USM", "UMS", "UiTM", "SEGI"};
+        Random random = new Random(7);
+        List<String> judges = new ArrayList<>(judgeCount);
+        Map<String, JudgeProfile> profiles = new HashMap<>();
+        for (int i = 0; i < judgeCount; i++) {
+            String judge = "Judge " + i;
+            List<String> expertise = new ArrayList<>();
+            expertise.add(categories[random.nextInt(categories.length)]);
+            if (random.nextBoolean()) {
+                expertise.add(categories[random.nextInt(categories.length)]);
+            }
+            String university = i % 5 == 0 ? null : universities[random.nextInt(universities.length)];
+            judges.add(judge);
+            profiles.put(judge, new JudgeProfile(judge, university, expertise));
+        }
+        return new JudgeAssignmentSolver(judges, profiles, judgesPerTeam);
+    }
+
+    private static void run(String name, int size, String filter, Operation operation, int opsPerCall) throws IOException {
+        if (!name.contains(filter)) {
+            return;
+        }
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            measure(operation);
+        }
+        double totalNanosPerCall = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            totalNanosPerCall += measure(operation);
+        }
+        double nanosPerOp = totalNanosPerCall / MEASURED_ITERATIONS / opsPerCall;
+        System.out.printf("%-32s %,10d %16s %,16.0f%n", name, size, formatNanos(nanosPerOp), 1e9 / nanosPerOp);
+    }
+
+    // Runs the operation repeatedly for at least MIN_ITERATION_NANOS; returns nanos per call.
+    private static double measure(Operation operation) throws IOException {
+        long calls = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            blackhole += operation.run();
+            calls++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < MIN_ITERATION_NANOS);
+        return (double) elapsed / calls;
+    }
+
+    private static int[] lookupKeys(TeamList teamList, int count) {
+        List<AbstractHackathonTeam> teams = teamList.getAllTeams();
+        Random random = new Random(7);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            // Mostly hits, with some misses past the highest team number
+            keys[i] = random.nextInt(10) == 0
+                ? teamList.getNextTeamId() + random.nextInt(1000)
+                : teams.get(random.nextInt(teams.size())).getTeamNumber();
+        }
+        return keys;
+    }
+
+    private static String formatNanos(double nanos) {
+        if (nanos < 1_000) return String.format("%.1f ns", nanos);
+        if (nanos < 1_000_000) return String.format("%.2f us", nanos / 1_000);
+        if (nanos < 1_000_000_000) return String.format("%.2f ms", nanos / 1_000_000);
+        return String.format("%.2f s", nanos / 1_000_000_000);
+    }
+
+    // Silences the progress messages the manager prints while loading and reporting.
+    private static void quietly(Runnable action) {
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        PrintStream sink = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(sink);
+        System.setErr(sink);
+        try {
+            action.run();
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+    }
+}
@@ -2,71 +2,354 @@ package hackathonsystem.controller;
 
 import hackathonsystem.model.*;
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 public class HackathonManager {
     private TeamList teamList;
     private final String dataFilePath = "HackathonTeams.csv"; 
     private final String reportFilePath = "HackathonReport.txt";
 
+    // Write-ahead log and its compacted snapshot, both kept beside the CSV file
+    private MutationLog mutationLog;
+    private static final int COMPACTION_THRESHOLD = 10_000;
+    // Log size that triggers the next compaction; raised after a failure so it is not retried on every change
+    private volatile int compactionThreshold = COMPACTION_THRESHOLD;
+    // Mutations hold the read side so they run concurrently; compaction takes the write side
+    // so the snapshot never misses a change that is already in the log it truncates
+    private final ReentrantReadWriteLock compactionLock = new ReentrantReadWriteLock();
+    // Set once the log cannot be written; every change is refused from then on, because a change
+    // applied in memory but missing from the log would be lost or misapplied on restart
+    private volatile IOException logFailure;
+
+    private final List<TeamChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Judge expertise and affiliations for auto-assignment; like scoring rules, session only
+    private final Map<String, JudgeProfile> judgeProfiles = new ConcurrentHashMap<>();
+
+    // Keeps the rendered report rows between "Generate Report" presses
+    private IncrementalReportGenerator reportGenerator;
+
     public HackathonManager() {
         this.teamList = new TeamList();
     }
 
+    public boolean registerTeam(AbstractHackathonTeam team) {
+        if (team == null) {
+            return false;
+        }
+        try {
+            withTeamLock(team.getTeamNumber(), () -> {
+                logMutation(MutationLog.ADD_TEAM, out -> TeamSnapshot.writeTeam(out, team));
+                teamList.addTeam(team);
+            });
+        } catch (UncheckedIOException e) {
+            return false;
+        }
+        compactIfNeeded();
+        fireChange(TeamChangeEvent.Type.TEAM_ADDED, team.getTeamNumber());
+        applyJudgeNormalization();
+        return true;
+    }
+
     public boolean updateTeamScores(int teamNumber, int[] newScores) {
-        AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
-        if (team != null && newScores != null && newScores.length == 5) {
-            for(int score : newScores) {
-                if (score < 0 || score > 5) return false;
+        if (newScores == null || newScores.length != 5) {
+            return false;
+        }
+        for(int score : newScores) {
+            if (score < 0 || score > 5) return false;
+        }
+        int[] scores = newScores.clone();
+        return mutateTeam(teamNumber, TeamChangeEvent.Type.SCORES_UPDATED, team -> {
+            logMutation(MutationLog.SCORES, out -> {
+                out.writeInt(teamNumber);
+                for (int score : scores) out.writeInt(score);
+            });
+            applyScores(team, scores);
+        });
+    }
+
+    /**
+     * Records one judge's scores for a team, replacing that judge's earlier submission. The team
+     * is then scored by the aggregate of its judges' submissions (see setScoreAggregation), and
+     * only this team is re-ranked. Returns false for an unknown team or invalid scores.
+     */
+    public boolean submitJudgeScores(String judgeName, int teamNumber, int[] newScores) {
+        if (judgeName == null || judgeName.trim().isEmpty() || newScores == null || newScores.length != 5) {
+            return false;
+        }
+        for (int score : newScores) {
+            if (score < 0 || score > 5) return false;
+        }
+        int[] scores = newScores.clone();
+        return mutateTeam(teamNumber, TeamChangeEvent.Type.SCORES_UPDATED, team -> {
+            logMutation(MutationLog.JUDGE_SCORES, out -> {
+                out.writeInt(teamNumber);
+                out.writeUTF(judgeName);
+                for (int score : scores) out.writeInt(score);
+            });
+            applyJudgeScores(team, judgeName, scores);
+        });
+    }
+
+    /**
+     * Applies a batch of score submissions with a single log commit. Each submission is validated
+     * on its own; the result says which ones were applied (unknown team or invalid scores are not,
+     * and none are if the commit fails).
+     */
+    public boolean[] updateTeamScores(int[] teamNumbers, int[][] newScores) {
+        return applyScoreBatch(null, teamNumbers, newScores);
+    }
+
+    /**
+     * Records a batch of one judge's submissions with a single log commit, each replacing that
+     * judge's earlier submission for its team as submitJudgeScores does. The result says which
+     * ones were applied, as for updateTeamScores.
+     */
+    public boolean[] submitJudgeScores(String judgeName, int[] teamNumbers, int[][] newScores) {
+        if (judgeName == null || judgeName.trim().isEmpty()) {
+            return new boolean[teamNumbers.length];
+        }
+        return applyScoreBatch(judgeName, teamNumbers, newScores);
+    }
+
+    // Raw score overwrites when judgeName is null, otherwise that judge's submissions.
+    private boolean[] applyScoreBatch(String judgeName, int[] teamNumbers, int[][] newScores) {
+        int count = teamNumbers.length;
+        boolean[] valid = new boolean[count];
+        int[][] scores = new int[count][];
+        for (int i = 0; i < count; i++) {
+            valid[i] = newScores[i] != null && newScores[i].length == 5;
+            for (int s = 0; valid[i] && s < 5; s++) {
+                valid[i] = newScores[i][s] >= 0 && newScores[i][s] <= 5;
+            }
+            scores[i] = valid[i] ? newScores[i].clone() : null;
+        }
+        boolean[] applied = new boolean[count];
+        int[] stripes = Arrays.stream(teamNumbers).map(teamList::stripeOf).distinct().sorted().toArray();
+
+        compactionLock.readLock().lock();
+        try {
+            withStripes(stripes, 0, () -> {
+                long lastSeq = 0;
+                checkAcceptingChanges();
+                for (int i = 0; i < count; i++) {
+                    int teamNumber = teamNumbers[i];
+                    int[] teamScores = scores[i];
+                    if (valid[i] && teamList.findTeamByNumber(teamNumber) != null) {
+                        applied[i] = true;
+                        lastSeq = Math.max(lastSeq, appendMutation(judgeName == null ? MutationLog.SCORES : MutationLog.JUDGE_SCORES, out -> {
+                            out.writeInt(teamNumber);
+                            if (judgeName != null) out.writeUTF(judgeName);
+                            for (int score : teamScores) out.writeInt(score);
+                        }));
+                    }
+                }
+                // One group commit covers the whole batch; nothing is applied before it is durable
+                awaitMutations(lastSeq);
+                for (int i = 0; i < count; i++) {
+                    if (!applied[i]) {
+                        continue;
+                    }
+                    AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumbers[i]);
+                    if (judgeName == null) {
+                        applyScores(team, scores[i]);
+                    } else {
+                        applyJudgeScores(team, judgeName, scores[i]);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            return new boolean[count];
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        for (int i = 0; i < count; i++) {
+            if (applied[i]) {
+                fireChange(TeamChangeEvent.Type.SCORES_UPDATED, teamNumbers[i]);
             }
-            team.setScores(newScores);
-            return true;
         }
-        return false;
+        applyJudgeNormalization();
+        return applied;
     }
 
+    // Returns false for an unknown team or a missing name or university.
     public boolean updateTeamDetails(int teamNumber, String newName, String newUniversity) {
-        AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
-        if (team != null) {
-            team.setTeamName(newName);
-            team.setUniversity(newUniversity);
-            // This version intentionally does not update category or eligibility
-            return true;
+        // Checked before logging: the log cannot encode a null string
+        if (newName == null || newUniversity == null) {
+            return false;
         }
-        return false;
+        return mutateTeam(teamNumber, TeamChangeEvent.Type.DETAILS_UPDATED, team -> {
+            logMutation(MutationLog.DETAILS, out -> {
+                out.writeInt(teamNumber);
+                out.writeUTF(newName);
+                out.writeUTF(newUniversity);
+            });
+            applyDetails(team, newName, newUniversity);
+        });
     }
 
     /**
      * Original method to perform a full update (5 arguments).
      */
     public boolean updateTeamDetails(int teamNumber, String newName, String newUniversity, String newCategory, boolean newEligibility) {
-        AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
-        if (team != null) {
-            team.setTeamName(newName);
-            team.setUniversity(newUniversity);
-            
-            // Requires setCategory and setEligibility in AbstractHackathonTeam
-            team.setCategory(newCategory);  
-            team.setEligibility(newEligibility); 
-            
-            return true;
+        if (newName == null || newUniversity == null || newCategory == null) {
+            return false;
         }
-        return false;
+        List<TeamChangeEvent.Type> changes = new ArrayList<>(3);
+        boolean updated = mutateTeam(teamNumber, TeamChangeEvent.Type.DETAILS_UPDATED, team -> {
+            if (!team.getCategory().equals(newCategory)) {
+                changes.add(TeamChangeEvent.Type.CATEGORY_CHANGED);
+            }
+            if (team.isEligibility() != newEligibility) {
+                changes.add(newEligibility ? TeamChangeEvent.Type.REINSTATED : TeamChangeEvent.Type.DISQUALIFIED);
+            }
+            logMutation(MutationLog.FULL_DETAILS, out -> {
+                out.writeInt(teamNumber);
+                out.writeUTF(newName);
+                out.writeUTF(newUniversity);
+                out.writeUTF(newCategory);
+                out.writeBoolean(newEligibility);
+            });
+            applyFullDetails(team, newName, newUniversity, newCategory, newEligibility);
+        });
+        if (updated) {
+            for (TeamChangeEvent.Type change : changes) {
+                fireChange(change, teamNumber);
+            }
+        }
+        return updated;
     }
 
     public boolean disqualifyTeam(int teamNumber) {
-        AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
-        if (team != null) {
-            team.setEligibility(false);
-            return true;
-        }
-        return false;
+        return mutateTeam(teamNumber, TeamChangeEvent.Type.DISQUALIFIED, team -> {
+            logMutation(MutationLog.DISQUALIFY, out -> out.writeInt(teamNumber));
+            applyDisqualify(team);
+        });
     }
 
     public boolean removeTeam(int teamNumber) {
-        int initialSize = teamList.getAllTeams().size();
-        teamList.removeTeam(teamNumber);
-        return teamList.getAllTeams().size() < initialSize;
+        return mutateTeam(teamNumber, TeamChangeEvent.Type.TEAM_REMOVED, team -> {
+            logMutation(MutationLog.REMOVE_TEAM, out -> out.writeInt(teamNumber));
+            teamList.removeTeam(teamNumber);
+        });
+    }
+
+    // --- Concurrency: per-team ordering of log and apply ---
+
+    /**
+     * Runs a logged change to one team while holding that team's stripe lock, so concurrent
+     * changes to the same team reach the log and the in-memory state in the same order.
+     * Changes to different teams proceed in parallel and share group commits.
+     */
+    private void withTeamLock(int teamNumber, Runnable change) {
+        compactionLock.readLock().lock();
+        try {
+            synchronized (teamList.lockFor(teamNumber)) {
+                change.run();
+            }
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+    }
+
+    // Holds the given stripe locks (ascending, so concurrent batches cannot deadlock) while running the change.
+    private void withStripes(int[] stripes, int index, Runnable change) {
+        if (index == stripes.length) {
+            change.run();
+            return;
+        }
+        synchronized (teamList.stripeLock(stripes[index])) {
+            withStripes(stripes, index + 1, change);
+        }
+    }
+
+    // Looks the team up under its lock, applies the change and announces it as the given event type;
+    // returns false if the team does not exist or the change could not be logged.
+    private boolean mutateTeam(int teamNumber, TeamChangeEvent.Type type, Consumer<AbstractHackathonTeam> change) {
+        boolean[] found = new boolean[1];
+        try {
+            withTeamLock(teamNumber, () -> {
+                AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
+                if (team != null) {
+                    change.accept(team);
+                    found[0] = true;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            return false;
+        }
+        if (found[0]) {
+            compactIfNeeded();
+            fireChange(type, teamNumber);
+            applyJudgeNormalization();
+        }
+        return found[0];
+    }
+
+    // --- Change notification ---
+
+    public void addTeamChangeListener(TeamChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeTeamChangeListener(TeamChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Called after the change is logged and applied, outside any lock.
+    private void fireChange(TeamChangeEvent.Type type, int teamNumber) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        TeamChangeEvent event = new TeamChangeEvent(type, teamNumber);
+        for (TeamChangeListener listener : listeners) {
+            try {
+                listener.teamChanged(event);
+            } catch (RuntimeException e) {
+                System.err.println("Error: team change listener failed on " + event + ". Details: " + e.getMessage());
+            }
+        }
+    }
+
+    // --- Mutations shared by the public API and log replay ---
+
+    private void applyScores(AbstractHackathonTeam team, int[] scores) {
+        teamList.updateTeam(team, t -> t.setScores(scores));
+    }
+
+    private void applyJudgeScores(AbstractHackathonTeam team, String judgeName, int[] scores) {
+        teamList.updateTeam(team, t -> t.submitJudgeScores(judgeName, scores));
+    }
+
+    private void applyDetails(AbstractHackathonTeam team, String newName, String newUniversity) {
+        // This version intentionally does not update category or eligibility
+        teamList.updateTeamDetails(team, t -> {
+            t.setTeamName(newName);
+            t.setUniversity(newUniversity);
+        });
+    }
+
+    private void applyFullDetails(AbstractHackathonTeam team, String newName, String newUniversity, String newCategory, boolean newEligibility) {
+        // Category and eligibility affect the ranking, and every field the search index, so they go through the TeamList
+        teamList.updateTeam(team, t -> {
+            t.setTeamName(newName);
+            t.setUniversity(newUniversity);
+            t.setCategory(newCategory);
+            t.setEligibility(newEligibility);
+        });
+    }
+
+    private void applyDisqualify(AbstractHackathonTeam team) {
+        teamList.updateTeam(team, t -> t.setEligibility(false));
     }
 
     public List<String> getAvailableCategories() {
@@ -74,93 +357,412 @@ public class HackathonManager {
     }
 
     public boolean addCategory(String category) {
-        return teamList.addCategory(category);
+        boolean added = teamList.addCategory(category);
+        if (added) {
+            fireChange(TeamChangeEvent.Type.CATEGORIES_EDITED, TeamChangeEvent.NO_TEAM);
+        }
+        return added;
     }
 
     public boolean removeCategory(String category) {
-        return teamList.removeCategory(category);
+        boolean removed = teamList.removeCategory(category);
+        if (removed) {
+            fireChange(TeamChangeEvent.Type.CATEGORIES_EDITED, TeamChangeEvent.NO_TEAM);
+        }
+        return removed;
+    }
+
+    /**
+     * Changes how a category is scored (null restores its team type's default rule) and re-ranks
+     * every team. Rules apply to this session only; they are not written to the mutation log.
+     */
+    public void setScoringRule(String category, ScoringRule rule) {
+        setScoringRules(Collections.singletonMap(category, rule));
+    }
+
+    // Changes several categories' rules with a single rescore.
+    public void setScoringRules(Map<String, ScoringRule> rules) {
+        teamList.setScoringRules(rules);
+        fireChange(TeamChangeEvent.Type.SCORING_RULES_CHANGED, TeamChangeEvent.NO_TEAM);
+    }
+
+    /**
+     * Recomputes every overall score and the whole leaderboard in parallel, replacing the
+     * previous leaderboard in one step.
+     */
+    public void rescoreAllTeams() {
+        teamList.rescoreAll();
+    }
+
+    // Returns the rule configured for the category, or null if it uses its team type's default.
+    public ScoringRule getScoringRule(String category) {
+        return teamList.getScoringRules().getConfiguredRule(category);
+    }
+
+    // The team type default the category is scored by while it has no configured rule.
+    public ScoringRule getDefaultScoringRule(String category) {
+        return teamList.getDefaultScoringRule(category);
+    }
+
+    /**
+     * Changes how teams' judge submissions are combined and re-ranks every team. Like scoring
+     * rules, this applies to the current session only.
+     */
+    public void setScoreAggregation(ScoreAggregation method) {
+        teamList.setScoreAggregation(method);
+        fireChange(TeamChangeEvent.Type.SCORING_RULES_CHANGED, TeamChangeEvent.NO_TEAM);
+    }
+
+    public ScoreAggregation getScoreAggregation() {
+        return teamList.getScoringRules().getAggregation();
+    }
+
+    /**
+     * Turns per-judge bias normalization on or off: each judge's submissions are rescaled by
+     * their own mean and spread before aggregating (see JudgeNormalization). Session-only, like
+     * the aggregation method.
+     */
+    public void setJudgeNormalization(boolean enabled) {
+        teamList.setJudgeNormalization(enabled);
+        fireChange(TeamChangeEvent.Type.SCORING_RULES_CHANGED, TeamChangeEvent.NO_TEAM);
+    }
+
+    public boolean isJudgeNormalizationEnabled() {
+        return teamList.isJudgeNormalizationEnabled();
+    }
+
+    // How the judge has scored so far, or null if they have not submitted any scores.
+    public JudgeBias getJudgeBias(String judgeName) {
+        return teamList.getJudgeBias(judgeName);
+    }
+
+    // Re-ranks the teams whose normalized scores moved because a judge's statistics drifted.
+    private void applyJudgeNormalization() {
+        Set<Integer> reranked = teamList.applyJudgeNormalization();
+        if (reranked == null) {
+            fireChange(TeamChangeEvent.Type.SCORING_RULES_CHANGED, TeamChangeEvent.NO_TEAM);
+            return;
+        }
+        for (int teamNumber : reranked) {
+            fireChange(TeamChangeEvent.Type.SCORES_UPDATED, teamNumber);
+        }
     }
 
     public List<String> getAvailableJudges() {
         return teamList.getAvailableJudges();
     }
+
+    // Type-ahead lookup by team name, university or category; best matches first.
+    public List<AbstractHackathonTeam> searchTeams(String query, int limit) {
+        return teamList.searchTeams(query, limit);
+    }
     
-    public Map<Integer, String> getJudgeAssignments() {
+    public Map<Integer, List<String>> getJudgeAssignments() {
         return teamList.getJudgeAssignments();
     }
     
-    public void assignJudge(int teamNumber, String judgeName) {
-        teamList.assignJudgeToTeam(teamNumber, judgeName);
+    // Returns false if the assignment could not be logged.
+    public boolean assignJudge(int teamNumber, String judgeName) {
+        try {
+            withTeamLock(teamNumber, () -> {
+                logMutation(MutationLog.ASSIGN_JUDGE, out -> {
+                    out.writeInt(teamNumber);
+                    out.writeUTF(judgeName);
+                });
+                teamList.assignJudgeToTeam(teamNumber, judgeName);
+            });
+        } catch (UncheckedIOException e) {
+            return false;
+        }
+        compactIfNeeded();
+        fireChange(TeamChangeEvent.Type.JUDGE_ASSIGNED, teamNumber);
+        return true;
+    }
+
+    // Records a judge's expertise and university for auto-assignment; replaces any earlier profile.
+    public void setJudgeProfile(JudgeProfile profile) {
+        judgeProfiles.put(profile.getName(), profile);
+    }
+
+    public JudgeProfile getJudgeProfile(String judgeName) {
+        return judgeProfiles.get(judgeName);
+    }
+
+    /**
+     * Replaces every team's judges with a panel of judgesPerTeam available judges, balancing
+     * judge loads and category expertise and avoiding judges from the team's own university
+     * (see JudgeAssignmentSolver). The new panels are logged with one group commit and announced
+     * as a single change. Returns the balance achieved; throws UncheckedIOException, with no
+     * panel changed, if they could not be logged.
+     */
+    public JudgeAssignmentSolver.Result autoAssignJudges(int judgesPerTeam) {
+        List<AbstractHackathonTeam> teams = teamList.getAllTeams();
+        JudgeAssignmentSolver.Result result =
+            new JudgeAssignmentSolver(getAvailableJudges(), judgeProfiles, judgesPerTeam).solve(teams);
+        Map<Integer, List<String>> assignments = result.getAssignments();
+        int[] stripes = assignments.keySet().stream().mapToInt(teamList::stripeOf).distinct().sorted().toArray();
+
+        compactionLock.readLock().lock();
+        try {
+            withStripes(stripes, 0, () -> {
+                long lastSeq = 0;
+                checkAcceptingChanges();
+                List<Integer> assigned = new ArrayList<>(assignments.size());
+                for (Map.Entry<Integer, List<String>> entry : assignments.entrySet()) {
+                    int teamNumber = entry.getKey();
+                    List<String> judges = entry.getValue();
+                    // Teams removed while the solver ran are skipped
+                    if (teamList.findTeamByNumber(teamNumber) == null) {
+                        continue;
+                    }
+                    assigned.add(teamNumber);
+                    lastSeq = Math.max(lastSeq, appendMutation(MutationLog.ASSIGN_JUDGES, out -> {
+                        out.writeInt(teamNumber);
+                        out.writeInt(judges.size());
+                        for (String judge : judges) out.writeUTF(judge);
+                    }));
+                }
+                awaitMutations(lastSeq);
+                for (int teamNumber : assigned) {
+                    teamList.assignJudgesToTeam(teamNumber, assignments.get(teamNumber));
+                }
+            });
+        } finally {
+            compactionLock.readLock().unlock();
+        }
+        compactIfNeeded();
+        fireChange(TeamChangeEvent.Type.JUDGE_ASSIGNED, TeamChangeEvent.NO_TEAM);
+        return result;
+    }
+
+    // --- Durability: write-ahead log and snapshot ---
+
+    /**
+     * Startup entry point: restores the last snapshot if there is one (otherwise loads the CSV),
+     * replays the mutation log on top of it and keeps the log open for new mutations.
+     * Once a snapshot exists it supersedes HackathonTeams.csv.
+     *
+     * Throws if the snapshot or the log cannot be read: the log only makes sense on top of the
+     * state it was written against, so neither the CSV nor a partial replay can stand in for it.
+     * If the log can be read but not reopened for writing, the data is loaded and changes are refused.
+     */
+    public void loadTeamData() throws IOException {
+        Path snapshotPath = getSnapshotPath();
+        if (Files.exists(snapshotPath)) {
+            TeamSnapshot.read(snapshotPath, teamList);
+            System.out.println("--- Restored " + teamList.getTeamCount() + " teams from snapshot " + snapshotPath + " ---");
+        } else {
+            readTeamDataFromFile(true);
+        }
+        openMutationLog();
+    }
+
+    private void openMutationLog() throws IOException {
+        MutationLog log = new MutationLog(Paths.get(dataFilePath + ".wal"));
+        int replayed = log.replay(this::replayMutation);
+        if (replayed > 0) {
+            System.out.println("--- Replayed " + replayed + " logged changes from " + log.getPath() + " ---");
+        }
+        try {
+            log.open();
+            mutationLog = log;
+        } catch (IOException e) {
+            logFailed(e);
+        }
+    }
+
+    private void replayMutation(byte op, DataInputStream in) throws IOException {
+        if (op == MutationLog.ADD_TEAM) {
+            teamList.addTeam(TeamSnapshot.readTeam(in));
+            return;
+        }
+        int teamNumber = in.readInt();
+        AbstractHackathonTeam team = teamList.findTeamByNumber(teamNumber);
+        switch (op) {
+            case MutationLog.SCORES:
+                int[] scores = new int[5];
+                for (int i = 0; i < 5; i++) scores[i] = in.readInt();
+                if (team != null) applyScores(team, scores);
+                break;
+            case MutationLog.JUDGE_SCORES: {
+                String judgeName = in.readUTF();
+                int[] judgeScores = new int[5];
+                for (int i = 0; i < 5; i++) judgeScores[i] = in.readInt();
+                if (team != null) applyJudgeScores(team, judgeName, judgeScores);
+                break;
+            }
+            case MutationLog.DETAILS: {
+                String name = in.readUTF();
+                String university = in.readUTF();
+                if (team != null) applyDetails(team, name, university);
+                break;
+            }
+            case MutationLog.FULL_DETAILS: {
+                String name = in.readUTF();
+                String university = in.readUTF();
+                String category = in.readUTF();
+                boolean eligibility = in.readBoolean();
+                if (team != null) applyFullDetails(team, name, university, category, eligibility);
+                break;
+            }
+            case MutationLog.DISQUALIFY:
+                if (team != null) applyDisqualify(team);
+                break;
+            case MutationLog.REMOVE_TEAM:
+                teamList.removeTeam(teamNumber);
+                break;
+            case MutationLog.ASSIGN_JUDGE:
+                teamList.assignJudgeToTeam(teamNumber, in.readUTF());
+                break;
+            case MutationLog.ASSIGN_JUDGES: {
+                String[] judges = new String[in.readInt()];
+                for (int i = 0; i < judges.length; i++) judges[i] = in.readUTF();
+                teamList.assignJudgesToTeam(teamNumber, Arrays.asList(judges));
+                break;
+            }
+            default:
+                throw new IOException("Unknown mutation log record type " + op);
+        }
+    }
+
+    // Whether changes are accepted; false once the mutation log has failed.
+    public boolean isAcceptingChanges() {
+        return logFailure == null;
+    }
+
+    // Appends a record and waits for its group commit, before the change is applied in memory.
+    // Throws UncheckedIOException if the record is not durable, so the caller must not apply it.
+    private void logMutation(byte op, MutationLog.RecordWriter body) {
+        awaitMutations(appendMutation(op, body));
+    }
+
+    // Buffers a record without waiting for it; returns its sequence number, or 0 if there is no log.
+    private long appendMutation(byte op, MutationLog.RecordWriter body) {
+        checkAcceptingChanges();
+        if (mutationLog == null) {
+            return 0;
+        }
+        try {
+            return mutationLog.append(op, body);
+        } catch (IOException e) {
+            // A record that cannot be encoded is refused on its own; a failed log refuses everything
+            if (mutationLog.isFailed()) {
+                throw logFailed(e);
+            }
+            System.err.println("Error: change not saved, it could not be written to the mutation log. Details: " + e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Waits until every record up to the given sequence number is durable.
+    private void awaitMutations(long seq) {
+        if (mutationLog == null || seq == 0) {
+            return;
+        }
+        try {
+            mutationLog.awaitDurable(seq);
+        } catch (IOException e) {
+            throw logFailed(e);
+        }
+    }
+
+    private void checkAcceptingChanges() {
+        IOException failure = logFailure;
+        if (failure != null) {
+            throw new UncheckedIOException("Changes are refused because the mutation log failed", failure);
+        }
+    }
+
+    // Records the first log failure and returns the exception that refuses the current change.
+    private synchronized UncheckedIOException logFailed(IOException e) {
+        if (logFailure == null) {
+            logFailure = e;
+            System.err.println("Error: the mutation log failed; no further changes are accepted until restart. Details: " + e.getMessage());
+        }
+        return new UncheckedIOException("Change not saved because the mutation log failed", e);
+    }
+
+    // Called after a logged change has been applied, so the snapshot always includes it.
+    private void compactIfNeeded() {
+        int threshold = compactionThreshold;
+        if (mutationLog != null && mutationLog.getRecordCount() >= threshold) {
+            compact(threshold);
+        }
+    }
+
+    /**
+     * Writes the current state to the snapshot file and empties the mutation log.
+     */
+    public void compactMutationLog() {
+        compact(0);
+    }
+
+    private void compact(int minimumRecords) {
+        if (mutationLog == null) {
+            return;
+        }
+        compactionLock.writeLock().lock();
+        try {
+            // Another thread may have compacted while this one waited for the lock
+            if (mutationLog.getRecordCount() < minimumRecords) {
+                return;
+            }
+            TeamSnapshot.write(getSnapshotPath(), teamList);
+            mutationLog.reset();
+            compactionThreshold = COMPACTION_THRESHOLD;
+        } catch (IOException e) {
+            System.err.println("Error: mutation log compaction failed. Details: " + e.getMessage());
+            // Each attempt snapshots every team under the write lock; wait for another full threshold first
+            compactionThreshold = mutationLog.getRecordCount() + COMPACTION_THRESHOLD;
+            // The new snapshot already holds what the log could not drop, so the log is no longer usable
+            if (mutationLog.isFailed()) {
+                logFailed(e);
+            }
+        } finally {
+            compactionLock.writeLock().unlock();
+        }
+    }
+
+    private Path getSnapshotPath() {
+        return Paths.get(dataFilePath + ".snapshot");
     }
 
     // --- File I/O Logic ---
 
     public void readTeamDataFromFile() {
-        System.out.println("\n--- Starting CSV File Reading ---");
-        try (BufferedReader br = new BufferedReader(new FileReader(dataFilePath))) {
-            String line;
-            int lineNumber = 0;
-            
-            while ((line = br.readLine()) != null) {
-                lineNumber++;
+        readTeamDataFromFile(dataFilePath, false);
+    }
 
-                line = line.replace("\uFEFF", "").trim();
-                if (line.isEmpty() || line.startsWith("Team ID")) continue;
+    /**
+     * Loads teams from the CSV file. In parallel mode the file is parsed in chunks across
+     * all cores; teams are still added, and errors reported, in file order.
+     */
+    public void readTeamDataFromFile(boolean parallel) {
+        readTeamDataFromFile(dataFilePath, parallel);
+    }
 
-                String[] parts = line.split(",");
+    public void readTeamDataFromFile(String path, boolean parallel) {
+        System.out.println("\n--- Starting CSV File Reading ---");
+        TeamCsvParser.Sink sink = new TeamCsvParser.Sink() {
+            @Override
+            public void team(int lineNumber, AbstractHackathonTeam team) {
+                teamList.addTeam(team);
+            }
 
-                if (parts.length < 9) { 
-                    System.err.println("Line " + lineNumber + ": Skipping line due to insufficient fields (< 9): " + line);
-                    continue;
-                }
-                
-                try {
-                    int teamNumber = Integer.parseInt(parts[0].trim());
-                    String teamName = parts[1].trim();
-                    String university = parts[2].trim();  
-                    String category = parts[3].trim();    
-                    boolean eligibility = true; 
-
-                    String initials = (teamName.contains(" ") ? 
-                                             (teamName.substring(0, 1) + teamName.substring(teamName.lastIndexOf(" ") + 1, teamName.lastIndexOf(" ") + 2)) 
-                                             : teamName.substring(0, Math.min(2, teamName.length()))).toUpperCase();
-                    
-                    int[] scores = new int[5]; 
-                    scores[0] = Integer.parseInt(parts[5].trim()); 
-                    scores[1] = Integer.parseInt(parts[6].trim()); 
-                    scores[2] = Integer.parseInt(parts[7].trim()); 
-                    scores[3] = Integer.parseInt(parts[8].trim()); 
-                    scores[4] = Integer.parseInt(parts[9].trim());
-                    
-                    // Simple Unique Attribute Logic (based on team name content)
-                    boolean csAttribute = teamName.toLowerCase().contains("secure") || category.toLowerCase().contains("secure");
-                    boolean wdAttribute = teamName.toLowerCase().contains("web") || category.toLowerCase().contains("web") || teamName.toLowerCase().contains("dev");
-                    
-                    AbstractHackathonTeam team;
-                    
-                    // Assuming WebDevTeam and CybersecurityTeam classes exist and have constructors matching the implementation below
-                    if (category.equalsIgnoreCase("Cybersecurity")) {
-                        // Placeholder/Fallback implementation for compilation
-                        team = new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, false); 
-                    } else if (category.equalsIgnoreCase("Web Development")) {
-                        team = new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, wdAttribute);
-                    } else {
-                        // Default to WebDevTeam or another generic team type if the category is unknown
-                        team = new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, false); 
-                    }
-                    
-                    teamList.addTeam(team);
-                    
-                } catch (NumberFormatException e) { 
-                    System.err.println("Line " + lineNumber + ": Error parsing number field in line: " + line);
-                } catch (Exception e) {
-                    System.err.println("Line " + lineNumber + ": General error processing line: " + line + ". Details: " + e.getMessage());
-                }
+            @Override
+            public void error(int lineNumber, String message) {
+                System.err.println("Line " + lineNumber + ": " + message);
+            }
+        };
+        try {
+            if (parallel) {
+                TeamCsvParser.parseFileParallel(Paths.get(path), sink);
+            } else {
+                new TeamCsvParser().parseFile(Paths.get(path), sink);
             }
-            System.out.println("--- File reading complete. Total teams loaded: " + teamList.getAllTeams().size() + " ---");
-            
-        } catch (FileNotFoundException e) {
-            System.err.println("\n*** FATAL ERROR: Input file not found at path: " + dataFilePath + " ***");
+            System.out.println("--- File reading complete. Total teams loaded: " + teamList.getTeamCount() + " ---");
+        } catch (NoSuchFileException e) {
+            System.err.println("\n*** FATAL ERROR: Input file not found at path: " + path + " ***");
             System.err.println("Ensure HackathonTeams.csv is in the project's root folder.");
         } catch (IOException e) {
             System.err.println("Error: An I/O error occurred while reading the file. Details: " + e.getMessage());
@@ -169,55 +771,39 @@ public class HackathonManager {
     
     // Generates a report and writes it to a text file.
     public void generateReportAndWriteToFile() {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(reportFilePath))) {
-            bw.write("--- HACKATHON SYSTEM FINAL REPORT ---\n");
-            bw.write("Generated on: " + new Date() + "\n");
-            bw.write("Total Teams Processed: " + teamList.getAllTeams().size() + "\n");
-            bw.write("Average Overall Score: " + String.format("%.2f", teamList.calculateAverageOverallScore()) + " (max 5.0)\n");
-            
-            AbstractHackathonTeam topTeam = teamList.getTopTeam();
-            if (topTeam != null) {
-                bw.write("Top Scoring Team: " + topTeam.getTeamName() + " (" 
-                        + topTeam.getTeamNumber() + ") with a score of " + String.format("%.2f", topTeam.getOverallScore()) + "\n");
-            } else {
-                bw.write("No teams available to calculate top team.\n");
-            }
-
-            bw.write("\n--- Score Distribution (Individual Score Frequency 0-5) ---\n");
-            int[] frequency = teamList.calculateScoreFrequency();
-            bw.write("Score | Count\n");
-            bw.write("------|------\n");
-            
-            for (int i = 0; i <= 5 && i < frequency.length; i++) { 
-                bw.write(String.format("%5d | %5d\n", i, frequency[i]));
-            }
-            
-            bw.write("\n--- Full Team List (Ranked by Overall Score) ---\n");
-            bw.write(String.format("%-5s | %-15s | %-30s | %-15s | %-15s | %-10s | %-20s\n", 
-                "Rank", "ID", "Name", "Category", "Eligibility", "Score", "Assigned Judge"));
-            bw.write("-----------------------------------------------------------------------------------------------------------------\n"); 
-            
-            List<AbstractHackathonTeam> rankedTeams = teamList.getTeamsSortedByScore();
-            
-            for (int i = 0; i < rankedTeams.size(); i++) {
-                AbstractHackathonTeam team = rankedTeams.get(i);
-                String judge = teamList.getJudgeForTeam(team.getTeamNumber()); 
-                bw.write(String.format("%-5d | %-15d | %-30s | %-15s | %-15s | %-10.2f | %-20s\n",
-                    (i + 1), 
-                    team.getTeamNumber(), 
-                    team.getTeamName(), 
-                    team.getCategory(), 
-                    team.isEligibility() ? "Eligible" : "INELIGIBLE",
-                    team.getOverallScore(),
-                    judge)); 
-            }
-            
+        generateReportAndWriteToFile(reportFilePath);
+    }
+
+    /**
+     * Writes the text report, re-rendering only the rows of teams changed since the previous
+     * report. The file is replaced by an atomic rename, so readers never see a partial report.
+     */
+    public void generateReportAndWriteToFile(String reportFilePath) {
+        try {
+            getReportGenerator().generate(Paths.get(reportFilePath));
             System.out.println("Report successfully generated and written to: " + reportFilePath);
         } catch (IOException e) {
              System.err.println("An I/O error occurred while writing the report file. Details: " + e.getMessage());
         }
     }
 
+    private synchronized IncrementalReportGenerator getReportGenerator() {
+        if (reportGenerator == null || reportGenerator.getTeamList() != teamList) {
+            reportGenerator = new IncrementalReportGenerator(teamList);
+        }
+        return reportGenerator;
+    }
+
+    // Streams the ranked report in the given format to a file.
+    public void writeReport(ReportWriter.Format format, Path path) throws IOException {
+        new ReportWriter(teamList, format).write(path);
+    }
+
+    // Streams the ranked report in the given format; the stream is left open.
+    public void writeReport(ReportWriter.Format format, OutputStream out) throws IOException {
+        new ReportWriter(teamList, format).write(out);
+    }
+
     public TeamList getTeamList() {
         return teamList;
     }
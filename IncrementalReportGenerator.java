@@ -0,0 +1,158 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Regenerates the text report (the HackathonReport.txt layout) without re-rendering rows that
+ * have not changed. Every row is cached, UTF-8 encoded and without its rank column, together
+ * with the team version, rules generation and judge it was rendered from. Each run walks the
+ * leaderboard and re-renders only the rows whose team changed since the last run; the others
+ * are copied as they are and only their ranks are written fresh. The summary sections come
+ * from TeamList's running statistics, so they are cheap to render on every run.
+ *
+ * The report is written to a temporary file beside the target and then renamed over it, so
+ * readers see either the previous report or the new one, never a partly written file.
+ */
+public class IncrementalReportGenerator {
+
+    private static final int CHUNK_ROWS = 4096;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    // One rendered row and what it was rendered from
+    private static final class Row {
+        final AbstractHackathonTeam team;
+        final int version;
+        final int rulesGeneration;
+        final String judge;
+        final byte[] tail;
+        int lastRun;
+
+        Row(AbstractHackathonTeam team, int version, int rulesGeneration, String judge, byte[] tail) {
+            this.team = team;
+            this.version = version;
+            this.rulesGeneration = rulesGeneration;
+            this.judge = judge;
+            this.tail = tail;
+        }
+
+        boolean isCurrent(AbstractHackathonTeam team, int rulesGeneration, String judge) {
+            return this.team == team && version == team.getVersion()
+                && this.rulesGeneration == rulesGeneration && Objects.equals(this.judge, judge);
+        }
+    }
+
+    private final TeamList teamList;
+    private final ReportWriter renderer;
+    private final Map<Integer, Row> rows = new HashMap<>();
+    private int run;
+    private int rowsRendered;
+
+    public IncrementalReportGenerator(TeamList teamList) {
+        this.teamList = teamList;
+        this.renderer = new ReportWriter(teamList, ReportWriter.Format.TEXT);
+    }
+
+    TeamList getTeamList() {
+        return teamList;
+    }
+
+    // Writes the report to path, replacing any previous file in one step.
+    public synchronized void generate(Path path) throws IOException {
+        run++;
+        rowsRendered = 0;
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int rowCount;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_BYTES)) {
+                out.write(renderer.renderTextHeader().getBytes(StandardCharsets.UTF_8));
+                rowCount = writeRows(out);
+            }
+            moveIntoPlace(temp, path);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        // Forget teams that have left the leaderboard
+        if (rows.size() > rowCount) {
+            rows.values().removeIf(row -> row.lastRun != run);
+        }
+    }
+
+    // Number of rows the last run had to render rather than reuse.
+    public synchronized int getRowsRenderedLastRun() {
+        return rowsRendered;
+    }
+
+    private int writeRows(OutputStream out) throws IOException {
+        // Rows rendered under an older rule are re-rendered; a rule change mid-run only leaves them stale-tagged
+        int rulesGeneration = teamList.getScoringRules().getGeneration();
+        byte[] rankColumn = new byte[16];
+        int rank = 0;
+        while (true) {
+            List<AbstractHackathonTeam> chunk = teamList.getRankedTeams(rank, CHUNK_ROWS);
+            for (AbstractHackathonTeam team : chunk) {
+                rank++;
+                out.write(rankColumn, 0, encodeRankColumn(rank, rankColumn));
+                out.write(rowFor(team, rulesGeneration).tail);
+            }
+            if (chunk.size() < CHUNK_ROWS) {
+                return rank;
+            }
+        }
+    }
+
+    private Row rowFor(AbstractHackathonTeam team, int rulesGeneration) {
+        int teamNumber = team.getTeamNumber();
+        String judge = teamList.getJudgeForTeam(teamNumber);
+        Row row = rows.get(teamNumber);
+        if (row == null || !row.isCurrent(team, rulesGeneration, judge)) {
+            // Version first, so a racing edit leaves the row stale-tagged
+            int version = team.getVersion();
+            byte[] tail = renderer.renderTextRowTail(team, judge).getBytes(StandardCharsets.UTF_8);
+            row = new Row(team, version, rulesGeneration, judge, tail);
+            rows.put(teamNumber, row);
+            rowsRendered++;
+        }
+        row.lastRun = run;
+        return row;
+    }
+
+    // Same as "%-5d | " for a positive rank; returns the number of bytes written.
+    private static int encodeRankColumn(int rank, byte[] out) {
+        int digits = 0;
+        for (int r = rank; r > 0; r /= 10) {
+            digits++;
+        }
+        for (int i = digits - 1, r = rank; i >= 0; i--, r /= 10) {
+            out[i] = (byte) ('0' + r % 10);
+        }
+        int end = Math.max(digits, 5);
+        for (int i = digits; i < end; i++) {
+            out[i] = ' ';
+        }
+        out[end] = ' ';
+        out[end + 1] = '|';
+        out[end + 2] = ' ';
+        return end + 3;
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.JudgeProfile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Assigns a panel of judges to every team in bulk (see HackathonManager.autoAssignJudges).
+ *
+ * Goals, most important first: never seat a judge on a team from their own university while
+ * another judge is free; keep judge loads within one team of each other; give every team at
+ * least one judge who is expert in its category, spreading each category's teams evenly over
+ * its experts.
+ *
+ * A greedy pass takes teams from the categories with the fewest experts first and fills each
+ * panel with the cheapest judges: an expert for the first seat, then the least loaded judges,
+ * never beyond the fair share ceil(teams * k / judges) unless nothing else fits. A time-boxed
+ * local search then swaps judges between panels to give expert-less teams an expert, and
+ * moves seats from the most to the least loaded judges.
+ */
+public final class JudgeAssignmentSolver {
+
+    // Local search stops after this long and keeps the assignment it has reached
+    private static final long LOCAL_SEARCH_NANOS = 300_000_000L;
+    // Teams of a busy expert examined when looking for a swap partner
+    private static final int SWAP_CANDIDATES = 64;
+
+    // Seat costs; each level outweighs any sum of the levels below it
+    private static final long CONFLICT_COST = 1L << 50;
+    private static final long OVER_SHARE_COST = 1L << 40;
+
+    /**
+     * The assignment found and how balanced it is.
+     */
+    public static final class Result {
+        private final Map<Integer, List<String>> assignments;
+        private final Map<String, Integer> loads;
+        private final int judgesPerTeam;
+        private final int teamsWithExpert;
+        private final int teamsNeedingExpert;
+        private final int conflicts;
+        private final int unfilledSeats;
+        private final int expertSwaps;
+        private final int loadMoves;
+        private final long elapsedNanos;
+
+        Result(Map<Integer, List<String>> assignments, Map<String, Integer> loads, int judgesPerTeam,
+               int teamsWithExpert, int teamsNeedingExpert, int conflicts, int unfilledSeats,
+               int expertSwaps, int loadMoves, long elapsedNanos) {
+            this.assignments = Collections.unmodifiableMap(assignments);
+            this.loads = Collections.unmodifiableMap(loads);
+            this.judgesPerTeam = judgesPerTeam;
+            this.teamsWithExpert = teamsWithExpert;
+            this.teamsNeedingExpert = teamsNeedingExpert;
+            this.conflicts = conflicts;
+            this.unfilledSeats = unfilledSeats;
+            this.expertSwaps = expertSwaps;
+            this.loadMoves = loadMoves;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Team number -> its judges.
+        public Map<Integer, List<String>> getAssignments() { return assignments; }
+        // Judge -> number of teams, for every available judge.
+        public Map<String, Integer> getLoads() { return loads; }
+        // Teams with at least one expert judge not from their university, and how many of them got one.
+        public int getTeamsNeedingExpert() { return teamsNeedingExpert; }
+        public int getTeamsWithExpert() { return teamsWithExpert; }
+        // Seats given to a judge from the team's own university because no one else was free.
+        public int getConflicts() { return conflicts; }
+        // Seats left empty because there are fewer judges than seats per team.
+        public int getUnfilledSeats() { return unfilledSeats; }
+        public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+
+        public int getMinLoad() {
+            return loads.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+        }
+
+        public int getMaxLoad() {
+            return loads.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        // A short human-readable balance report.
+        public String getSummary() {
+            double mean = loads.values().stream().mapToInt(Integer::intValue).average().orElse(0);
+            double variance = loads.values().stream().mapToDouble(load -> (load - mean) * (load - mean)).average().orElse(0);
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("Assigned %,d teams to %,d judges, %d per team, in %,d ms%n",
+                assignments.size(), loads.size(), judgesPerTeam, getElapsedMillis()));
+            sb.append(String.format("Load per judge: min %,d, max %,d, mean %,.1f, std dev %,.1f%n",
+                getMinLoad(), getMaxLoad(), mean, Math.sqrt(variance)));
+            sb.append(String.format("Teams with an expert judge: %,d of %,d that could have one (%.1f%%)%n",
+                teamsWithExpert, teamsNeedingExpert, teamsNeedingExpert == 0 ? 100.0 : 100.0 * teamsWithExpert / teamsNeedingExpert));
+            sb.append(String.format("University conflicts: %,d%n", conflicts));
+            if (unfilledSeats > 0) {
+                sb.append(String.format("Unfilled seats: %,d (not enough judges)%n", unfilledSeats));
+            }
+            sb.append(String.format("Local search: %,d expert swaps, %,d load moves%n", expertSwaps, loadMoves));
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+
+    private final String[] judges;
+    private final Map<String, JudgeProfile> profiles;
+    private final int judgesPerTeam;
+
+    /**
+     * Judges without a profile have no expertise and no university. judgesPerTeam is capped at
+     * the number of judges.
+     */
+    public JudgeAssignmentSolver(List<String> judges, Map<String, JudgeProfile> profiles, int judgesPerTeam) {
+        if (judgesPerTeam < 1) {
+            throw new IllegalArgumentException("Each team needs at least one judge");
+        }
+        this.judges = new LinkedHashSet<>(judges).toArray(new String[0]);
+        this.profiles = profiles;
+        this.judgesPerTeam = judgesPerTeam;
+    }
+
+    public Result solve(List<AbstractHackathonTeam> teams) {
+        return new Solution(teams).solve();
+    }
+
+    // Working state of one solve, in flat arrays indexed by team and judge position.
+    private final class Solution {
+        private final long start = System.nanoTime();
+        private final List<AbstractHackathonTeam> teams;
+        private final int teamCount;
+        private final int judgeCount;
+        private final int seats;
+        private final int fairShare;
+
+        private final int[] teamCategory;
+        private final int[] teamUniversity;
+        private final int[] judgeUniversity;
+        // expert[judge][category]
+        private final boolean[][] expert;
+        // Experts of each category
+        private final int[][] expertsOf;
+
+        // panel[team * seats + seat] = judge, or -1 if the seat is empty
+        private final int[] panel;
+        private final int[] load;
+        // Teams each judge sits on, unordered
+        private final int[][] judgeTeams;
+
+        private int expertSwaps;
+        private int loadMoves;
+
+        Solution(List<AbstractHackathonTeam> teams) {
+            this.teams = teams;
+            this.teamCount = teams.size();
+            this.judgeCount = judges.length;
+            this.seats = Math.min(judgesPerTeam, judgeCount);
+            this.fairShare = judgeCount == 0 ? 0 : (int) (((long) teamCount * seats + judgeCount - 1) / judgeCount);
+
+            Map<String, Integer> categoryIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            Map<String, Integer> universityIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            teamCategory = new int[teamCount];
+            teamUniversity = new int[teamCount];
+            for (int t = 0; t < teamCount; t++) {
+                AbstractHackathonTeam team = teams.get(t);
+                teamCategory[t] = categoryIds.computeIfAbsent(team.getCategory(), c -> categoryIds.size());
+                teamUniversity[t] = universityIds.computeIfAbsent(team.getUniversity(), u -> universityIds.size());
+            }
+
+            judgeUniversity = new int[judgeCount];
+            expert = new boolean[judgeCount][categoryIds.size()];
+            int[] expertCounts = new int[categoryIds.size()];
+            for (int j = 0; j < judgeCount; j++) {
+                JudgeProfile profile = profiles.get(judges[j]);
+                Integer university = profile == null || profile.getUniversity() == null ? null : universityIds.get(profile.getUniversity());
+                judgeUniversity[j] = university == null ? -1 : university;
+                if (profile != null) {
+                    for (Map.Entry<String, Integer> category : categoryIds.entrySet()) {
+                        if (profile.isExpertIn(category.getKey())) {
+                            expert[j][category.getValue()] = true;
+                            expertCounts[category.getValue()]++;
+                        }
+                    }
+                }
+            }
+            expertsOf = new int[categoryIds.size()][];
+            for (int c = 0; c < expertsOf.length; c++) {
+                expertsOf[c] = new int[expertCounts[c]];
+                int next = 0;
+                for (int j = 0; j < judgeCount; j++) {
+                    if (expert[j][c]) {
+                        expertsOf[c][next++] = j;
+                    }
+                }
+            }
+
+            panel = new int[teamCount * seats];
+            Arrays.fill(panel, -1);
+            load = new int[judgeCount];
+            judgeTeams = new int[judgeCount][Math.max(4, fairShare)];
+        }
+
+        Result solve() {
+            greedy();
+            long deadline = System.nanoTime() + LOCAL_SEARCH_NANOS;
+            repairExpertise(deadline);
+            balanceLoads(deadline);
+            return result();
+        }
+
+        // --- Greedy construction ---
+
+        private void greedy() {
+            // Scarcest categories first, so their few experts are not used up by the others
+            Integer[] order = new Integer[teamCount];
+            for (int t = 0; t < teamCount; t++) {
+                order[t] = t;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int cmp = Integer.compare(expertsOf[teamCategory[a]].length, expertsOf[teamCategory[b]].length);
+                return cmp != 0 ? cmp : Integer.compare(teams.get(a).getTeamNumber(), teams.get(b).getTeamNumber());
+            });
+            for (int t : order) {
+                for (int seat = 0; seat < seats; seat++) {
+                    int best = -1;
+                    long bestCost = Long.MAX_VALUE;
+                    boolean wantExpert = expertsOf[teamCategory[t]].length > 0 && !hasExpert(t, -1);
+                    for (int j = 0; j < judgeCount; j++) {
+                        if (onPanel(t, j)) {
+                            continue;
+                        }
+                        long cost = seatCost(t, j, wantExpert);
+                        if (cost < bestCost) {
+                            best = j;
+                            bestCost = cost;
+                        }
+                    }
+                    seat(t, seat, best);
+                }
+            }
+        }
+
+        private long seatCost(int t, int j, boolean wantExpert) {
+            long cost = load[j];
+            if (wantExpert && !expert[j][teamCategory[t]]) {
+                // Any expert within their fair share beats every non-expert
+                cost += fairShare + 1;
+            }
+            if (load[j] >= fairShare) {
+                cost += OVER_SHARE_COST;
+            }
+            if (conflicts(t, j)) {
+                cost += CONFLICT_COST;
+            }
+            return cost;
+        }
+
+        // --- Local search ---
+
+        /**
+         * Gives expert-less teams an expert: directly if the expert has room, otherwise by
+         * swapping seats with one of the expert's teams that keeps an expert without them.
+         */
+        private void repairExpertise(long deadline) {
+            for (int t = 0; t < teamCount && System.nanoTime() < deadline; t++) {
+                int category = teamCategory[t];
+                if (expertsOf[category].length == 0 || hasExpert(t, -1)) {
+                    continue;
+                }
+                // The expert takes the seat of the team's busiest judge
+                int seat = busiestSeat(t);
+                int judge = panel[t * seats + seat];
+                for (int e : expertsOf[category]) {
+                    if (onPanel(t, e) || conflicts(t, e)) {
+                        continue;
+                    }
+                    if (load[e] < fairShare && load[e] < load[judge] + 1) {
+                        unseat(t, seat);
+                        seat(t, seat, e);
+                        expertSwaps++;
+                        break;
+                    }
+                    if (swapWithTeamOf(e, t, seat)) {
+                        expertSwaps++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Swaps the expert e onto team t (in place of its judge at seat) and that judge onto one of e's teams.
+        private boolean swapWithTeamOf(int e, int t, int seat) {
+            int judge = panel[t * seats + seat];
+            int examined = Math.min(load[e], SWAP_CANDIDATES);
+            for (int i = 0; i < examined; i++) {
+                int u = judgeTeams[e][i];
+                if (u == t || onPanel(u, judge) || conflicts(u, judge)) {
+                    continue;
+                }
+                int uCategory = teamCategory[u];
+                boolean keepsExpert = expertsOf[uCategory].length == 0 || expert[judge][uCategory] || hasExpert(u, e);
+                if (!keepsExpert) {
+                    continue;
+                }
+                int uSeat = seatOf(u, e);
+                unseat(u, uSeat);
+                unseat(t, seat);
+                seat(u, uSeat, judge);
+                seat(t, seat, e);
+                return true;
+            }
+            return false;
+        }
+
+        // Moves seats from the most to the least loaded judge until loads differ by at most one.
+        private void balanceLoads(long deadline) {
+            boolean[] stuck = new boolean[judgeCount];
+            while (judgeCount > 1 && System.nanoTime() < deadline) {
+                int most = -1;
+                int least = -1;
+                for (int j = 0; j < judgeCount; j++) {
+                    if (!stuck[j] && (most < 0 || load[j] > load[most])) {
+                        most = j;
+                    }
+                    if (least < 0 || load[j] < load[least]) {
+                        least = j;
+                    }
+                }
+                if (most < 0 || load[most] - load[least] <= 1) {
+                    return;
+                }
+                if (!moveSeat(most, least)) {
+                    stuck[most] = true;
+                }
+            }
+        }
+
+        private boolean moveSeat(int from, int to) {
+            for (int i = 0; i < load[from]; i++) {
+                int t = judgeTeams[from][i];
+                if (onPanel(t, to) || conflicts(t, to)) {
+                    continue;
+                }
+                int category = teamCategory[t];
+                boolean losesExpert = expert[from][category] && !expert[to][category] && !hasExpert(t, from);
+                if (losesExpert) {
+                    continue;
+                }
+                int seat = seatOf(t, from);
+                unseat(t, seat);
+                seat(t, seat, to);
+                loadMoves++;
+                return true;
+            }
+            return false;
+        }
+
+        // --- Panel bookkeeping ---
+
+        private void seat(int t, int seat, int j) {
+            if (j < 0) {
+                return;
+            }
+            panel[t * seats + seat] = j;
+            if (load[j] == judgeTeams[j].length) {
+                judgeTeams[j] = Arrays.copyOf(judgeTeams[j], load[j] * 2);
+            }
+            judgeTeams[j][load[j]++] = t;
+        }
+
+        private void unseat(int t, int seat) {
+            int j = panel[t * seats + seat];
+            panel[t * seats + seat] = -1;
+            int[] list = judgeTeams[j];
+            for (int i = 0; i < load[j]; i++) {
+                if (list[i] == t) {
+                    list[i] = list[--load[j]];
+                    return;
+                }
+            }
+        }
+
+        private boolean onPanel(int t, int j) {
+            return seatOf(t, j) >= 0;
+        }
+
+        private int seatOf(int t, int j) {
+            for (int seat = 0; seat < seats; seat++) {
+                if (panel[t * seats + seat] == j) {
+                    return seat;
+                }
+            }
+            return -1;
+        }
+
+        // True if the team has an expert on its panel other than the excluded judge.
+        private boolean hasExpert(int t, int excluded) {
+            for (int seat = 0; seat < seats; seat++) {
+                int j = panel[t * seats + seat];
+                if (j >= 0 && j != excluded && expert[j][teamCategory[t]]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int busiestSeat(int t) {
+            int busiest = 0;
+            for (int seat = 1; seat < seats; seat++) {
+                if (load[panel[t * seats + seat]] > load[panel[t * seats + busiest]]) {
+                    busiest = seat;
+                }
+            }
+            return busiest;
+        }
+
+        // True if some expert in the team's category is not from the team's university.
+        private boolean hasEligibleExpert(int t) {
+            for (int e : expertsOf[teamCategory[t]]) {
+                if (!conflicts(t, e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean conflicts(int t, int j) {
+            return judgeUniversity[j] >= 0 && judgeUniversity[j] == teamUniversity[t];
+        }
+
+        private Result result() {
+            Map<Integer, List<String>> assignments = new HashMap<>(Math.max(16, (int) (teamCount / 0.75f) + 1));
+            int teamsWithExpert = 0;
+            int teamsNeedingExpert = 0;
+            int conflictCount = 0;
+            int unfilled = teamCount * (judgesPerTeam - seats);
+            for (int t = 0; t < teamCount; t++) {
+                List<String> names = new ArrayList<>(seats);
+                for (int seat = 0; seat < seats; seat++) {
+                    int j = panel[t * seats + seat];
+                    if (j < 0) {
+                        unfilled++;
+                        continue;
+                    }
+                    names.add(judges[j]);
+                    if (conflicts(t, j)) {
+                        conflictCount++;
+                    }
+                }
+                if (!names.isEmpty()) {
+                    assignments.put(teams.get(t).getTeamNumber(), names);
+                }
+                if (hasEligibleExpert(t)) {
+                    teamsNeedingExpert++;
+                    if (hasExpert(t, -1)) {
+                        teamsWithExpert++;
+                    }
+                }
+            }
+            Map<String, Integer> loads = new LinkedHashMap<>();
+            for (int j = 0; j < judgeCount; j++) {
+                loads.put(judges[j], load[j]);
+            }
+            return new Result(assignments, loads, judgesPerTeam, teamsWithExpert, teamsNeedingExpert,
+                conflictCount, unfilled, expertSwaps, loadMoves, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package hackathonsystem.model;
+
+/**
+ * How one judge (or all judges together) has scored so far: the number of submissions and the
+ * mean and standard deviation of each criterion. Immutable.
+ */
+public final class JudgeBias {
+
+    private final int count;
+    private final double[] mean;
+    private final double[] stdDev;
+
+    public JudgeBias(int count, double[] mean, double[] stdDev) {
+        if (mean.length != ScoringRule.CRITERIA || stdDev.length != ScoringRule.CRITERIA) {
+            throw new IllegalArgumentException("Judge statistics need one value per criterion");
+        }
+        this.count = count;
+        this.mean = mean.clone();
+        this.stdDev = stdDev.clone();
+    }
+
+    public int getCount() { return count; }
+    public double getMean(int criterion) { return mean[criterion]; }
+    public double getStdDev(int criterion) { return stdDev[criterion]; }
+
+    // Mean over all criteria, a one-number summary of how generous the judge is.
+    public double getOverallMean() {
+        double sum = 0;
+        for (double value : mean) {
+            sum += value;
+        }
+        return sum / mean.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append(count).append(" submissions, mean/sd");
+        for (int c = 0; c < mean.length; c++) {
+            sb.append(String.format(" %.2f/%.2f", mean[c], stdDev[c]));
+        }
+        return sb.toString();
+    }
+}
@@ -1,19 +1,33 @@
 package hackathonsystem.view;
 
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.TeamChangeEvent;
+import hackathonsystem.controller.LocalScoringService;
+import hackathonsystem.controller.ScoringService;
 import hackathonsystem.model.AbstractHackathonTeam;
+import java.io.Closeable;
+import java.io.IOException;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import javax.swing.border.TitledBorder;
 
 public class JudgeGUIView extends JFrame {
+    // Null in thin-client mode, where the data lives on a ScoringServer
     private final HackathonManager manager;
+    private final ScoringService service;
+    // Runs lookups, score updates and reports off the EDT
+    private final BackgroundDataService dataService = new BackgroundDataService();
+    // Keeps the displayed team's details current when others change it
+    private final TeamChangeCoalescer changeListener = new TeamChangeCoalescer(this::teamsChanged);
+    private int displayedTeamNumber = -1;
     private JTextField teamNumberSearch;
+    private TeamSuggestionPopup teamSuggestions;
+    private JComboBox<String> judgeCombo;
     private JTextField score1, score2, score3, score4, score5;
     private JTextArea teamDetailsArea;
     
-    private JButton searchButton, updateScoresButton, generateReportButton; 
+    private JButton searchButton, nextTeamButton, updateScoresButton, generateReportButton; 
     
     private static final Color PRIMARY_COLOR = new Color(52, 152, 219); 
     private static final Color SUCCESS_COLOR = new Color(39, 174, 96); 
@@ -24,14 +38,30 @@ public class JudgeGUIView extends JFrame {
 
 
     public JudgeGUIView(HackathonManager manager) {
+        this(manager, new LocalScoringService(manager));
+    }
+
+    /**
+     * Thin-client mode: every operation goes to the given (usually remote) scoring service.
+     */
+    public JudgeGUIView(ScoringService service) {
+        this(null, service);
+    }
+
+    private JudgeGUIView(HackathonManager manager, ScoringService service) {
         this.manager = manager;
-        setTitle("Judge Scoring Interface - Role: Judge");
-        setSize(600, 500);
+        this.service = service;
+        setTitle("Judge Scoring Interface - Role: Judge" + (manager == null ? " (Remote)" : ""));
+        setSize(760, 500);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setLocationRelativeTo(null);
         
         initComponents();
         setLayoutComponents();
+        loadJudges();
+        if (manager != null) {
+            manager.addTeamChangeListener(changeListener);
+        }
     }
 
     private JButton createStyledButton(String text, Color background) {
@@ -46,8 +76,9 @@ public class JudgeGUIView extends JFrame {
     }
 
     private void initComponents() {
-        teamNumberSearch = new JTextField(8);
+        teamNumberSearch = new JTextField(14);
         teamNumberSearch.setHorizontalAlignment(JTextField.CENTER);
+        teamSuggestions = new TeamSuggestionPopup(teamNumberSearch, dataService, service::searchTeams, this::searchTeam);
         
         score1 = new JTextField(5);
         score2 = new JTextField(5);
@@ -68,6 +99,10 @@ public class JudgeGUIView extends JFrame {
 
         searchButton = createStyledButton("Search Team", PRIMARY_COLOR);
         searchButton.addActionListener(e -> searchTeam());
+
+        judgeCombo = new JComboBox<>();
+        nextTeamButton = createStyledButton("Next Team", PRIMARY_COLOR);
+        nextTeamButton.addActionListener(e -> nextTeam());
         
         updateScoresButton = createStyledButton("Update Scores", SUCCESS_COLOR);
         updateScoresButton.addActionListener(e -> updateScores());
@@ -88,11 +123,16 @@ public class JudgeGUIView extends JFrame {
             TitledBorder.CENTER, TitledBorder.TOP, HEADER_FONT, PRIMARY_COLOR.darker()
         ));
         
-        JLabel searchLabel = new JLabel("Enter Team ID:");
+        JLabel searchLabel = new JLabel("Enter Team ID or Name:");
         searchLabel.setFont(LABEL_FONT.deriveFont(Font.BOLD));
         searchPanel.add(searchLabel);
         searchPanel.add(teamNumberSearch);
         searchPanel.add(searchButton);
+        JLabel judgeLabel = new JLabel("or Judge:");
+        judgeLabel.setFont(LABEL_FONT.deriveFont(Font.BOLD));
+        searchPanel.add(judgeLabel);
+        searchPanel.add(judgeCombo);
+        searchPanel.add(nextTeamButton);
         
         mainPanel.add(searchPanel, BorderLayout.NORTH);
 
@@ -136,27 +176,65 @@ public class JudgeGUIView extends JFrame {
     }
 
     private void searchTeam() {
+        String text = teamNumberSearch.getText().trim();
+        if (text.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Please enter a Team ID or name.", "Input Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
         try {
-            int teamNum = Integer.parseInt(teamNumberSearch.getText().trim());
-            AbstractHackathonTeam team = manager.getTeamList().findTeamByNumber(teamNum);
-            
-            if (team != null) {
-                teamDetailsArea.setText(team.getFullDetails());
-                int[] scores = team.getScores();
-                if (scores.length == 5) {
-                    score1.setText(String.valueOf(scores[0]));
-                    score2.setText(String.valueOf(scores[1]));
-                    score3.setText(String.valueOf(scores[2]));
-                    score4.setText(String.valueOf(scores[3]));
-                    score5.setText(String.valueOf(scores[4]));
-                }
-            } else {
-                teamDetailsArea.setText("Team not found for ID: " + teamNum);
-                score1.setText(""); score2.setText(""); score3.setText(""); score4.setText(""); score5.setText("");
-            }
+            int teamNum = Integer.parseInt(text);
+            dataService.submit("search", () -> service.findTeam(teamNum),
+                team -> showTeam(teamNum, team), this::showConnectionError);
         } catch (NumberFormatException ex) {
-            JOptionPane.showMessageDialog(this, "Please enter a valid numeric Team ID.", "Input Error", JOptionPane.ERROR_MESSAGE);
+            // A name, university or category: show the best match
+            teamSuggestions.pickBestMatch();
+        }
+    }
+
+    private void loadJudges() {
+        dataService.submit("judges", service::getJudges,
+            judges -> judgeCombo.setModel(new DefaultComboBoxModel<>(judges.toArray(new String[0]))),
+            this::showConnectionError);
+    }
+
+    // Shows the selected judge's next team from their work queue: unscored first, then least recently updated.
+    private void nextTeam() {
+        String judge = (String) judgeCombo.getSelectedItem();
+        if (judge == null) {
+            JOptionPane.showMessageDialog(this, "Please select a judge.", "Input Error", JOptionPane.ERROR_MESSAGE);
+            return;
         }
+        dataService.submit("search", () -> service.nextTeamForJudge(judge), team -> {
+            if (team == null) {
+                JOptionPane.showMessageDialog(this, "No teams are assigned to " + judge + ".", "Work Queue Empty", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+            teamNumberSearch.setText(String.valueOf(team.getTeamNumber()));
+            showTeam(team.getTeamNumber(), team);
+        }, this::showConnectionError);
+    }
+
+    private void showTeam(int teamNum, ScoringService.TeamDetails team) {
+        if (team != null) {
+            displayedTeamNumber = teamNum;
+            teamDetailsArea.setText(team.getFullDetails());
+            int[] scores = team.getScores();
+            if (scores.length == 5) {
+                score1.setText(String.valueOf(scores[0]));
+                score2.setText(String.valueOf(scores[1]));
+                score3.setText(String.valueOf(scores[2]));
+                score4.setText(String.valueOf(scores[3]));
+                score5.setText(String.valueOf(scores[4]));
+            }
+        } else {
+            displayedTeamNumber = -1;
+            teamDetailsArea.setText("Team not found for ID: " + teamNum);
+            score1.setText(""); score2.setText(""); score3.setText(""); score4.setText(""); score5.setText("");
+        }
+    }
+
+    private void showConnectionError(Exception e) {
+        JOptionPane.showMessageDialog(this, "Could not reach the scoring service: " + e.getMessage(), "Connection Error", JOptionPane.ERROR_MESSAGE);
     }
     
     private boolean isScoreValid(int score) {
@@ -186,13 +264,24 @@ public class JudgeGUIView extends JFrame {
             }
             // End of NEW VALIDATION
 
-            if (manager.updateTeamScores(teamNum, newScores)) {
-                JOptionPane.showMessageDialog(this, "Scores successfully updated for Team " + teamNum, "Success", JOptionPane.INFORMATION_MESSAGE);
-                searchTeam();
-            } else {
-                // Modified error message for clarity on the 0-5 range
-                JOptionPane.showMessageDialog(this, "Failed to update scores. Check Team ID and ensure all 5 scores are 0-5.", "Update Failed", JOptionPane.ERROR_MESSAGE);
-            }
+            // Scores are recorded as the selected judge's submission and aggregated with the other judges'
+            String judge = (String) judgeCombo.getSelectedItem();
+            updateScoresButton.setEnabled(false);
+            dataService.submitWrite("update", () -> judge == null
+                    ? service.updateTeamScores(teamNum, newScores)
+                    : service.submitJudgeScores(judge, teamNum, newScores), updated -> {
+                updateScoresButton.setEnabled(true);
+                if (updated) {
+                    JOptionPane.showMessageDialog(this, "Scores successfully updated for Team " + teamNum, "Success", JOptionPane.INFORMATION_MESSAGE);
+                    searchTeam();
+                } else {
+                    // Modified error message for clarity on the 0-5 range
+                    JOptionPane.showMessageDialog(this, "Failed to update scores. Check Team ID and ensure all 5 scores are 0-5.", "Update Failed", JOptionPane.ERROR_MESSAGE);
+                }
+            }, e -> {
+                updateScoresButton.setEnabled(true);
+                showConnectionError(e);
+            });
         } catch (NumberFormatException ex) {
             // Modified error message for clarity on the 0-5 range
             JOptionPane.showMessageDialog(this, "All scores must be valid integers (0-5).", "Input Error", JOptionPane.ERROR_MESSAGE);
@@ -200,8 +289,44 @@ public class JudgeGUIView extends JFrame {
     }
     
     private void generateReport() {
-        manager.generateReportAndWriteToFile();
-        JOptionPane.showMessageDialog(this, "Report generated successfully. Check HackathonReport.txt", "Report Success", JOptionPane.INFORMATION_MESSAGE);
+        generateReportButton.setEnabled(false);
+        dataService.submitWrite("report", () -> {
+            service.generateReport();
+            return null;
+        }, ignored -> {
+            generateReportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Report generated successfully. Check HackathonReport.txt", "Report Success", JOptionPane.INFORMATION_MESSAGE);
+        }, e -> {
+            generateReportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Report generation failed: " + e.getMessage(), "Report Failed", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    // Refreshes only the details text, leaving any input the user is typing untouched.
+    private void teamsChanged(TeamChangeCoalescer.Batch batch) {
+        if (displayedTeamNumber < 0 || !(batch.getTeamNumbers().contains(displayedTeamNumber)
+                || batch.contains(TeamChangeEvent.Type.SCORING_RULES_CHANGED))) {
+            return;
+        }
+        AbstractHackathonTeam team = manager.getTeamList().findTeamByNumber(displayedTeamNumber);
+        teamDetailsArea.setText(team != null ? team.getFullDetails() : "Team not found for ID: " + displayedTeamNumber);
+    }
+
+    @Override
+    public void dispose() {
+        if (manager != null) {
+            manager.removeTeamChangeListener(changeListener);
+        }
+        changeListener.stop();
+        dataService.cancelAll();
+        if (service instanceof Closeable) {
+            try {
+                ((Closeable) service).close();
+            } catch (IOException e) {
+                System.err.println("Error: could not close the scoring connection. Details: " + e.getMessage());
+            }
+        }
+        super.dispose();
     }
 
 }
@@ -0,0 +1,84 @@
+package hackathonsystem.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional correction for harsh and generous judges. When enabled, each judge's submission is
+ * z-scored against that judge's own mean and standard deviation and mapped back onto the scale
+ * of all judges' submissions before aggregating:
+ *
+ *   normalized = allMean + allStdDev * (score - judgeMean) / judgeStdDev, clamped to 0-5
+ *
+ * Judges with fewer than MIN_SUBMISSIONS submissions are used as they are, and a (near) constant
+ * judge is only shifted by the difference in means.
+ *
+ * Each TeamList's ScoringRules own one instance, so lists are normalized independently. The
+ * statistics in use are published by that TeamList, which only republishes a judge's once they
+ * drift noticeably and then re-ranks the teams that judge scored.
+ */
+public final class JudgeNormalization {
+
+    // Submissions a judge needs before their statistics are trusted
+    public static final int MIN_SUBMISSIONS = 5;
+    // Below this spread a z-score would amplify noise, so only the mean is corrected
+    private static final double MIN_STD_DEV = 0.25;
+
+    // The rules whose teams are normalized by these statistics
+    private final ScoringRules owner;
+    private volatile boolean enabled;
+    private final Map<String, JudgeBias> biases = new ConcurrentHashMap<>();
+    // Statistics of all judges' submissions together
+    private volatile JudgeBias reference;
+
+    JudgeNormalization(ScoringRules owner) {
+        this.owner = owner;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Turns normalization on or off; like a rule change, this invalidates every score, so the caller must re-rank.
+    public void setEnabled(boolean on) {
+        enabled = on;
+        owner.invalidateScores();
+    }
+
+    // The statistics in use for the judge, or null if none are published.
+    public JudgeBias getBias(String judge) {
+        return biases.get(judge);
+    }
+
+    public void setBias(String judge, JudgeBias bias) {
+        if (bias == null) {
+            biases.remove(judge);
+        } else {
+            biases.put(judge, bias);
+        }
+    }
+
+    public JudgeBias getReference() {
+        return reference;
+    }
+
+    public void setReference(JudgeBias bias) {
+        reference = bias;
+    }
+
+    // Maps one judge's score for a criterion onto the common scale.
+    static double normalize(JudgeBias bias, JudgeBias reference, int criterion, int score) {
+        if (bias == null || reference == null || bias.getCount() < MIN_SUBMISSIONS) {
+            return score;
+        }
+        double judgeStdDev = bias.getStdDev(criterion);
+        double allStdDev = reference.getStdDev(criterion);
+        double normalized;
+        if (judgeStdDev < MIN_STD_DEV || allStdDev < MIN_STD_DEV) {
+            normalized = reference.getMean(criterion) + (score - bias.getMean(criterion));
+        } else {
+            normalized = reference.getMean(criterion) + allStdDev * (score - bias.getMean(criterion)) / judgeStdDev;
+        }
+        return Math.min(ScoreAggregation.MAX_SCORE, Math.max(0.0, normalized));
+    }
+}
@@ -0,0 +1,50 @@
+package hackathonsystem.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * What judge auto-assignment knows about a judge: the categories they are expert in and the
+ * university they are affiliated with, whose teams they should not judge. Category and
+ * university names are matched case-insensitively. Immutable.
+ */
+public final class JudgeProfile {
+
+    private final String name;
+    // Null if the judge has no university affiliation
+    private final String university;
+    private final Set<String> expertise;
+
+    public JudgeProfile(String name, String university, Collection<String> expertise) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("A judge profile needs a name");
+        }
+        this.name = name;
+        this.university = university == null || university.trim().isEmpty() ? null : university.trim();
+        Set<String> categories = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (String category : expertise) {
+            categories.add(category.trim());
+        }
+        this.expertise = Collections.unmodifiableSet(categories);
+    }
+
+    public String getName() { return name; }
+    public String getUniversity() { return university; }
+    public Set<String> getExpertise() { return expertise; }
+
+    public boolean isExpertIn(String category) {
+        return expertise.contains(category);
+    }
+
+    // True if the judge is affiliated with the given university.
+    public boolean isAffiliatedWith(String university) {
+        return this.university != null && this.university.equalsIgnoreCase(university);
+    }
+
+    @Override
+    public String toString() {
+        return name + (university == null ? "" : " (" + university + ")") + ", expert in " + expertise;
+    }
+}
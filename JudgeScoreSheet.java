@@ -0,0 +1,136 @@
+package hackathonsystem.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One team's score submissions, at most one per judge. Each submission's five 0-5 scores are
+ * packed three bits apiece into a short. Alongside them the sheet counts, per criterion, how
+ * many submissions gave each score, so aggregating (see ScoreAggregation) reads 30 counters
+ * however many judges have submitted.
+ *
+ * Immutable: a submission returns a new sheet that copies the panel's small arrays and adjusts
+ * the counters for the one changed submission, so readers on other threads need no lock.
+ */
+final class JudgeScoreSheet {
+
+    private static final int CRITERIA = ScoringRule.CRITERIA;
+    private static final int VALUES = ScoreAggregation.MAX_SCORE + 1;
+
+    static final JudgeScoreSheet EMPTY = new JudgeScoreSheet(new String[0], new short[0], new int[CRITERIA * VALUES]);
+
+    private final String[] judges;
+    private final short[] submissions;
+    // counts[criterion * VALUES + score] = submissions giving that score
+    private final int[] counts;
+
+    private JudgeScoreSheet(String[] judges, short[] submissions, int[] counts) {
+        this.judges = judges;
+        this.submissions = submissions;
+        this.counts = counts;
+    }
+
+    // Returns a sheet with the judge's submission added, or replacing their earlier one. Scores must be 0-5.
+    JudgeScoreSheet with(String judge, int[] scores) {
+        int index = indexOf(judge);
+        int[] nextCounts = counts.clone();
+        String[] nextJudges;
+        short[] nextSubmissions;
+        if (index < 0) {
+            index = judges.length;
+            nextJudges = Arrays.copyOf(judges, index + 1);
+            nextSubmissions = Arrays.copyOf(submissions, index + 1);
+            nextJudges[index] = judge;
+        } else {
+            nextJudges = judges;
+            nextSubmissions = submissions.clone();
+            int previous = submissions[index];
+            for (int c = 0; c < CRITERIA; c++) {
+                nextCounts[c * VALUES + score(previous, c)]--;
+            }
+        }
+        for (int c = 0; c < CRITERIA; c++) {
+            nextCounts[c * VALUES + scores[c]]++;
+        }
+        nextSubmissions[index] = pack(scores);
+        return new JudgeScoreSheet(nextJudges, nextSubmissions, nextCounts);
+    }
+
+    double aggregate(ScoreAggregation method, int criterion) {
+        return method.aggregate(counts, criterion * VALUES, judges.length);
+    }
+
+    double[] aggregate(ScoreAggregation method) {
+        double[] aggregated = new double[CRITERIA];
+        for (int c = 0; c < CRITERIA; c++) {
+            aggregated[c] = aggregate(method, c);
+        }
+        return aggregated;
+    }
+
+    /**
+     * Aggregates every criterion after normalizing each judge's scores by the given statistics.
+     * Normalized scores are fractional and differ per judge, so unlike aggregate() this visits
+     * each submission.
+     */
+    double[] aggregateNormalized(ScoreAggregation method, JudgeNormalization normalization) {
+        JudgeBias reference = normalization.getReference();
+        double[][] normalized = new double[CRITERIA][judges.length];
+        for (int i = 0; i < judges.length; i++) {
+            JudgeBias bias = normalization.getBias(judges[i]);
+            for (int c = 0; c < CRITERIA; c++) {
+                normalized[c][i] = JudgeNormalization.normalize(bias, reference, c, score(submissions[i], c));
+            }
+        }
+        double[] aggregated = new double[CRITERIA];
+        for (int c = 0; c < CRITERIA; c++) {
+            Arrays.sort(normalized[c]);
+            aggregated[c] = method.aggregate(normalized[c]);
+        }
+        return aggregated;
+    }
+
+    boolean hasSubmitted(String judge) {
+        return indexOf(judge) >= 0;
+    }
+
+    int size() {
+        return judges.length;
+    }
+
+    // Judge -> their scores, in the order the judges first submitted.
+    Map<String, int[]> toMap() {
+        Map<String, int[]> map = new LinkedHashMap<>();
+        for (int i = 0; i < judges.length; i++) {
+            int[] scores = new int[CRITERIA];
+            for (int c = 0; c < CRITERIA; c++) {
+                scores[c] = score(submissions[i], c);
+            }
+            map.put(judges[i], scores);
+        }
+        return map;
+    }
+
+    // Panels are a handful of judges, so a scan beats a hash table here
+    private int indexOf(String judge) {
+        for (int i = 0; i < judges.length; i++) {
+            if (judges[i].equals(judge)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static short pack(int[] scores) {
+        int packed = 0;
+        for (int c = 0; c < CRITERIA; c++) {
+            packed |= scores[c] << (c * 3);
+        }
+        return (short) packed;
+    }
+
+    private static int score(int packed, int criterion) {
+        return (packed >>> (criterion * 3)) & 7;
+    }
+}
@@ -0,0 +1,206 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.JudgeBias;
+import hackathonsystem.model.JudgeNormalization;
+import hackathonsystem.model.ScoringRule;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Running statistics over the judges' score submissions: for every judge, and for all judges
+ * together, the count and the Welford mean and variance of each criterion. Adding, replacing or
+ * withdrawing a submission is O(1); nothing is ever recomputed from the submissions. Also tracks
+ * which teams each judge has scored, so a change in a judge's normalization re-ranks only those.
+ *
+ * A judge whose statistics move more than DRIFT away from the ones its JudgeNormalization is using
+ * is marked as drifted; TeamList.applyJudgeNormalization then publishes the new statistics.
+ *
+ * Not thread-safe on its own; TeamList calls it under its index lock.
+ */
+final class JudgeScoreStatistics {
+
+    private static final int CRITERIA = ScoringRule.CRITERIA;
+    // Change in a mean or standard deviation that is worth re-ranking for
+    private static final double DRIFT = 0.05;
+
+    // Welford accumulator with removal, one mean and sum of squared deviations per criterion.
+    private static final class Accumulator {
+        int count;
+        final double[] mean = new double[CRITERIA];
+        final double[] m2 = new double[CRITERIA];
+
+        void add(int[] scores) {
+            count++;
+            for (int c = 0; c < CRITERIA; c++) {
+                double delta = scores[c] - mean[c];
+                mean[c] += delta / count;
+                m2[c] += delta * (scores[c] - mean[c]);
+            }
+        }
+
+        void remove(int[] scores) {
+            if (count <= 1) {
+                count = 0;
+                Arrays.fill(mean, 0);
+                Arrays.fill(m2, 0);
+                return;
+            }
+            for (int c = 0; c < CRITERIA; c++) {
+                double previousMean = mean[c];
+                mean[c] = (count * previousMean - scores[c]) / (count - 1);
+                // Rounding can leave a tiny negative residue
+                m2[c] = Math.max(0, m2[c] - (scores[c] - previousMean) * (scores[c] - mean[c]));
+            }
+            count--;
+        }
+
+        double stdDev(int criterion) {
+            return count == 0 ? 0 : Math.sqrt(m2[criterion] / count);
+        }
+
+        JudgeBias toBias() {
+            double[] stdDevs = new double[CRITERIA];
+            for (int c = 0; c < CRITERIA; c++) {
+                stdDevs[c] = stdDev(c);
+            }
+            return new JudgeBias(count, mean, stdDevs);
+        }
+
+        // True if normalizing by these statistics instead of the published ones would change scores noticeably.
+        boolean driftedFrom(JudgeBias published) {
+            boolean trusted = count >= JudgeNormalization.MIN_SUBMISSIONS;
+            if (published == null || trusted != published.getCount() >= JudgeNormalization.MIN_SUBMISSIONS) {
+                return trusted;
+            }
+            if (!trusted) {
+                return false;
+            }
+            for (int c = 0; c < CRITERIA; c++) {
+                if (Math.abs(mean[c] - published.getMean(c)) > DRIFT || Math.abs(stdDev(c) - published.getStdDev(c)) > DRIFT) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Where drifted statistics are published
+    private final JudgeNormalization normalization;
+    private final Map<String, Accumulator> judges = new HashMap<>();
+    private final Map<String, Set<Integer>> teamsByJudge = new HashMap<>();
+    private final Accumulator all = new Accumulator();
+
+    private final Set<String> drifted = new HashSet<>();
+    private boolean referenceDrifted;
+    // Read without the lock to skip applyJudgeNormalization cheaply
+    private volatile boolean driftPending;
+
+    JudgeScoreStatistics(JudgeNormalization normalization) {
+        this.normalization = normalization;
+    }
+
+    /**
+     * Accounts for a team's submissions changing from before to after (judge -> scores; null for
+     * none). Only submissions that differ are withdrawn or added.
+     */
+    void teamChanged(int teamNumber, Map<String, int[]> before, Map<String, int[]> after) {
+        if (before != null) {
+            for (Map.Entry<String, int[]> submission : before.entrySet()) {
+                int[] now = after == null ? null : after.get(submission.getKey());
+                if (!Arrays.equals(now, submission.getValue())) {
+                    withdraw(teamNumber, submission.getKey(), submission.getValue(), now != null);
+                }
+            }
+        }
+        if (after != null) {
+            for (Map.Entry<String, int[]> submission : after.entrySet()) {
+                int[] previous = before == null ? null : before.get(submission.getKey());
+                if (!Arrays.equals(previous, submission.getValue())) {
+                    submit(teamNumber, submission.getKey(), submission.getValue());
+                }
+            }
+        }
+    }
+
+    // Live statistics of the judge's submissions, or null if they have none.
+    JudgeBias getBias(String judge) {
+        Accumulator accumulator = judges.get(judge);
+        return accumulator == null ? null : accumulator.toBias();
+    }
+
+    JudgeBias getReference() {
+        return all.toBias();
+    }
+
+    boolean hasDrift() {
+        return driftPending;
+    }
+
+    /**
+     * Publishes the statistics of every drifted judge to the normalization and returns the
+     * teams whose normalized scores may have changed: those the judges scored, or every team
+     * with submissions if the statistics of all judges together drifted.
+     */
+    Set<Integer> publishDrift() {
+        Set<Integer> affected = new HashSet<>();
+        if (referenceDrifted) {
+            normalization.setReference(all.toBias());
+            drifted.addAll(judges.keySet());
+        }
+        for (String judge : drifted) {
+            Accumulator accumulator = judges.get(judge);
+            normalization.setBias(judge, accumulator == null ? null : accumulator.toBias());
+            Set<Integer> teams = teamsByJudge.get(judge);
+            if (teams != null) {
+                affected.addAll(teams);
+            }
+        }
+        drifted.clear();
+        referenceDrifted = false;
+        driftPending = false;
+        return affected;
+    }
+
+    private void submit(int teamNumber, String judge, int[] scores) {
+        judges.computeIfAbsent(judge, j -> new Accumulator()).add(scores);
+        all.add(scores);
+        teamsByJudge.computeIfAbsent(judge, j -> new HashSet<>()).add(teamNumber);
+        checkDrift(judge);
+    }
+
+    // Withdraws a submission; replaced is true if the same judge's new submission follows.
+    private void withdraw(int teamNumber, String judge, int[] scores, boolean replaced) {
+        Accumulator accumulator = judges.get(judge);
+        if (accumulator == null) {
+            return;
+        }
+        accumulator.remove(scores);
+        all.remove(scores);
+        if (!replaced) {
+            Set<Integer> teams = teamsByJudge.get(judge);
+            teams.remove(teamNumber);
+            if (teams.isEmpty()) {
+                teamsByJudge.remove(judge);
+            }
+        }
+        if (accumulator.count == 0 && !replaced) {
+            judges.remove(judge);
+        }
+        checkDrift(judge);
+    }
+
+    private void checkDrift(String judge) {
+        Accumulator accumulator = judges.get(judge);
+        JudgeBias published = normalization.getBias(judge);
+        if (accumulator == null ? published != null : accumulator.driftedFrom(published)) {
+            drifted.add(judge);
+        }
+        if (all.driftedFrom(normalization.getReference())) {
+            referenceDrifted = true;
+        }
+        driftPending = referenceDrifted || !drifted.isEmpty();
+    }
+}
@@ -1,7 +1,17 @@
 // JudgeUser.java
 package hackathonsystem.model;
 public class JudgeUser extends User {
+    // The judge this account scores as, as listed in the available judges
+    private final String judgeName;
+
     public JudgeUser(String username, String password) {
+        this(username, password, username);
+    }
+
+    public JudgeUser(String username, String password, String judgeName) {
         super(username, password, "Judge");
+        this.judgeName = judgeName;
     }
+
+    public String getJudgeName() { return judgeName; }
 }
\ No newline at end of file
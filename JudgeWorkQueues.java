@@ -0,0 +1,141 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Reverse side of the judge assignments: for every judge, the teams assigned to them as a
+ * work queue ordered by what to score next. Teams the judge has not scored come first, then the
+ * teams updated longest ago, then by team number. Once a team has judge submissions, it counts
+ * as unscored for each judge who has not submitted; until then, while all its criteria are 0. A team judged by a panel is in each
+ * panel member's queue. Assigning, updating and finding the next team are O(log n) per judge.
+ *
+ * Not thread-safe on its own; TeamList calls it under its index lock.
+ */
+final class JudgeWorkQueues {
+
+    private static final class Entry implements Comparable<Entry> {
+        final int teamNumber;
+        final String judge;
+        final boolean unscored;
+        // Value of the update clock when the team last changed; 0 if not since it was loaded
+        final long lastUpdate;
+
+        Entry(int teamNumber, String judge, boolean unscored, long lastUpdate) {
+            this.teamNumber = teamNumber;
+            this.judge = judge;
+            this.unscored = unscored;
+            this.lastUpdate = lastUpdate;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (unscored != other.unscored) {
+                return unscored ? -1 : 1;
+            }
+            int cmp = Long.compare(lastUpdate, other.lastUpdate);
+            return cmp != 0 ? cmp : Integer.compare(teamNumber, other.teamNumber);
+        }
+    }
+
+    private final Map<String, TreeSet<Entry>> queues = new HashMap<>();
+    // A team's entries, one per judge on its panel
+    private final Map<Integer, Entry[]> entries = new HashMap<>();
+    private long updateClock;
+
+    // Puts the team in the queues of the given judges, taking it out of any previous judges'.
+    void assign(AbstractHackathonTeam team, List<String> judges) {
+        Entry[] previous = remove(team.getTeamNumber());
+        long lastUpdate = previous == null ? 0 : previous[0].lastUpdate;
+        add(team, judges, lastUpdate);
+    }
+
+    void unassign(int teamNumber) {
+        remove(teamNumber);
+    }
+
+    // Moves a changed team to its new place in its judges' queues, if it has any.
+    void teamUpdated(AbstractHackathonTeam team) {
+        Entry[] previous = remove(team.getTeamNumber());
+        if (previous != null) {
+            List<String> judges = new ArrayList<>(previous.length);
+            for (Entry entry : previous) {
+                judges.add(entry.judge);
+            }
+            add(team, judges, ++updateClock);
+        }
+    }
+
+    // Returns the team number the judge should score next, or -1 if their queue is empty.
+    int next(String judge) {
+        TreeSet<Entry> queue = queues.get(judge);
+        return queue == null ? -1 : queue.first().teamNumber;
+    }
+
+    // Returns the judge's teams in queue order, optionally only the unscored ones at its front.
+    List<Integer> teamsOf(String judge, boolean unscoredOnly) {
+        TreeSet<Entry> queue = queues.get(judge);
+        List<Integer> teamNumbers = new ArrayList<>(queue == null ? 0 : queue.size());
+        if (queue != null) {
+            for (Entry entry : queue) {
+                if (unscoredOnly && !entry.unscored) {
+                    break;
+                }
+                teamNumbers.add(entry.teamNumber);
+            }
+        }
+        return teamNumbers;
+    }
+
+    int count(String judge) {
+        TreeSet<Entry> queue = queues.get(judge);
+        return queue == null ? 0 : queue.size();
+    }
+
+    List<String> judges() {
+        return new ArrayList<>(queues.keySet());
+    }
+
+    private void add(AbstractHackathonTeam team, List<String> judges, long lastUpdate) {
+        if (judges.isEmpty()) {
+            return;
+        }
+        Entry[] teamEntries = new Entry[judges.size()];
+        for (int i = 0; i < teamEntries.length; i++) {
+            String judge = judges.get(i);
+            teamEntries[i] = new Entry(team.getTeamNumber(), judge, isUnscored(team, judge), lastUpdate);
+            queues.computeIfAbsent(teamEntries[i].judge, j -> new TreeSet<>()).add(teamEntries[i]);
+        }
+        entries.put(team.getTeamNumber(), teamEntries);
+    }
+
+    private Entry[] remove(int teamNumber) {
+        Entry[] teamEntries = entries.remove(teamNumber);
+        if (teamEntries != null) {
+            for (Entry entry : teamEntries) {
+                TreeSet<Entry> queue = queues.get(entry.judge);
+                queue.remove(entry);
+                if (queue.isEmpty()) {
+                    queues.remove(entry.judge);
+                }
+            }
+        }
+        return teamEntries;
+    }
+
+    private static boolean isUnscored(AbstractHackathonTeam team, String judge) {
+        if (team.hasJudgeScores()) {
+            return !team.hasJudgeSubmitted(judge);
+        }
+        for (int i = 0; i < 5; i++) {
+            if (team.getScore(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
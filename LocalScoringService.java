@@ -0,0 +1,81 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ScoringService backed directly by the in-process HackathonManager.
+ */
+public class LocalScoringService implements ScoringService {
+    private final HackathonManager manager;
+
+    public LocalScoringService(HackathonManager manager) {
+        this.manager = manager;
+    }
+
+    @Override
+    public TeamDetails findTeam(int teamNumber) {
+        return details(manager.getTeamList().findTeamByNumber(teamNumber));
+    }
+
+    @Override
+    public List<TeamSummary> searchTeams(String query, int limit) {
+        List<AbstractHackathonTeam> matches = manager.searchTeams(query, limit);
+        List<TeamSummary> summaries = new ArrayList<>(matches.size());
+        for (AbstractHackathonTeam team : matches) {
+            summaries.add(new TeamSummary(team.getTeamNumber(), team.getTeamName(), team.getUniversity(), team.getCategory()));
+        }
+        return summaries;
+    }
+
+    @Override
+    public TeamDetails nextTeamForJudge(String judgeName) {
+        return details(manager.getTeamList().getNextTeamForJudge(judgeName));
+    }
+
+    @Override
+    public List<String> getJudges() {
+        return new ArrayList<>(manager.getAvailableJudges());
+    }
+
+    @Override
+    public boolean updateTeamScores(int teamNumber, int[] scores) {
+        return manager.updateTeamScores(teamNumber, scores);
+    }
+
+    @Override
+    public boolean[] updateTeamScores(int[] teamNumbers, int[][] scores) {
+        return manager.updateTeamScores(teamNumbers, scores);
+    }
+
+    @Override
+    public boolean submitJudgeScores(String judgeName, int teamNumber, int[] scores) {
+        return manager.submitJudgeScores(judgeName, teamNumber, scores);
+    }
+
+    @Override
+    public boolean[] submitJudgeScores(String judgeName, int[] teamNumbers, int[][] scores) {
+        return manager.submitJudgeScores(judgeName, teamNumbers, scores);
+    }
+
+    @Override
+    public List<LeaderboardEntry> getLeaderboard(int count) {
+        List<AbstractHackathonTeam> top = manager.getTeamList().getTopTeams(count);
+        List<LeaderboardEntry> entries = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            AbstractHackathonTeam team = top.get(i);
+            entries.add(new LeaderboardEntry(i + 1, team.getTeamNumber(), team.getTeamName(), team.getOverallScore()));
+        }
+        return entries;
+    }
+
+    @Override
+    public void generateReport() {
+        manager.generateReportAndWriteToFile();
+    }
+
+    private static TeamDetails details(AbstractHackathonTeam team) {
+        return team == null ? null : new TeamDetails(team.getTeamNumber(), team.getFullDetails(), team.getScores());
+    }
+}
@@ -2,6 +2,7 @@ package hackathonsystem.view;
 
 import hackathonsystem.controller.AuthenticationManager;
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.ScoringClient;
 import hackathonsystem.model.User;
 
 import javax.swing.*;
@@ -10,6 +11,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.WindowAdapter; 
 import java.awt.event.WindowEvent; 
+import java.io.IOException;
 
 public class LoginGUIView extends JFrame {
     private final AuthenticationManager authManager;
@@ -148,6 +150,37 @@ public class LoginGUIView extends JFrame {
         this.add(mainPanel);
     }
 
+    /**
+     * Thin-client sign-in: asks for a judge or organizer account until the scoring server accepts
+     * one. Returns false if the user cancels or runs out of attempts (the server closes the
+     * connection after three failed logins).
+     */
+    public static boolean showRemoteLogin(ScoringClient client, String server) {
+        JTextField username = new JTextField(20);
+        JPasswordField password = new JPasswordField(20);
+        JPanel inputPanel = new JPanel(new GridLayout(2, 2, 15, 15));
+        inputPanel.add(new JLabel("Username:"));
+        inputPanel.add(username);
+        inputPanel.add(new JLabel("Password:"));
+        inputPanel.add(password);
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int choice = JOptionPane.showConfirmDialog(null, inputPanel, "Sign in to " + server,
+                    JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+            if (choice != JOptionPane.OK_OPTION) {
+                return false;
+            }
+            try {
+                client.login(username.getText(), new String(password.getPassword()));
+                return true;
+            } catch (IOException e) {
+                password.setText("");
+                JOptionPane.showMessageDialog(null, e.getMessage(), "Login Failed", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+        return false;
+    }
+
     private void addWindowCloseConfirmation() {
         this.addWindowListener(new WindowAdapter() {
             @Override
@@ -2,23 +2,82 @@ package hackathonsystem;
 
 import hackathonsystem.controller.AuthenticationManager;
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.LocalScoringService;
+import hackathonsystem.controller.ScoringClient;
+import hackathonsystem.controller.ScoringServer;
 import hackathonsystem.controller.UserRepository;
+import hackathonsystem.view.JudgeGUIView;
 import hackathonsystem.view.LoginGUIView;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import javax.swing.SwingUtilities;
 
+/**
+ * Usage:
+ *   (no arguments)              standalone desktop application
+ *   --server [host:]port        also accept remote judges; "port" alone listens on localhost only,
+ *                               e.g. --server 0.0.0.0:5050 for the LAN
+ *   --client host:port          thin judge client for a machine running --server; signs in with
+ *                               a judge or organizer account of that server
+ */
 public class Main {
     public static void main(String[] args) {
+        if (args.length >= 2 && args[0].equals("--client")) {
+            startThinClient(args[1]);
+            return;
+        }
+
         // 1. Initialize Controllers (M and C)
         UserRepository userRepo = new UserRepository();
         HackathonManager hackathonManager = new HackathonManager();
         AuthenticationManager authManager = new AuthenticationManager(userRepo, hackathonManager);
 
-        // 2. Load Initial Data (File I/O)
-        hackathonManager.readTeamDataFromFile(); 
+        // 2. Load Initial Data (File I/O): snapshot or CSV, then replay the mutation log
+        try {
+            hackathonManager.loadTeamData();
+        } catch (IOException e) {
+            System.err.println("Error: could not restore the saved team data; not starting so the saved changes are kept. Details: " + e.getMessage());
+            System.exit(1);
+        }
+
+        // 3. Optionally serve remote judges from this process
+        if (args.length >= 1 && args[0].equals("--server")) {
+            try {
+                new ScoringServer(new LocalScoringService(hackathonManager), authManager,
+                    parseAddress(args.length >= 2 ? args[1] : "5050")).start();
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Error: could not start the scoring server. Details: " + e.getMessage());
+            }
+        }
 
-        // 3. Launch the Login View (V) with both managers
+        // 4. Launch the Login View (V) with both managers
         SwingUtilities.invokeLater(() -> {
             new LoginGUIView(authManager, hackathonManager).setVisible(true);
         });
     }
+
+    private static void startThinClient(String server) {
+        try {
+            ScoringClient client = ScoringClient.connect(server);
+            SwingUtilities.invokeLater(() -> {
+                if (LoginGUIView.showRemoteLogin(client, server)) {
+                    new JudgeGUIView(client).setVisible(true);
+                } else {
+                    System.exit(0);
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Error: could not connect to scoring server " + server + ". Details: " + e.getMessage());
+        }
+    }
+
+    // "port" binds to localhost only; "host:port" binds to the given interface.
+    private static InetSocketAddress parseAddress(String address) {
+        int colon = address.lastIndexOf(':');
+        if (colon < 0) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+        }
+        return new InetSocketAddress(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+    }
 }
@@ -0,0 +1,337 @@
+package hackathonsystem.controller;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of team mutations, stored beside HackathonTeams.csv.
+ *
+ * Each record is [int length][byte op][payload][int crc32]. Appends are buffered in memory and
+ * made durable by group commit: a dedicated writer thread writes and fsyncs every record
+ * appended so far, and records appended meanwhile go out with its next batch. Only the writer
+ * touches the file, so interrupting a caller (which would close a FileChannel it was writing
+ * to) can never break the log; callers wait for their record uninterruptibly instead.
+ * A torn or corrupt tail (e.g. after a crash mid-write) is cut off during replay.
+ *
+ * If a group commit fails, every caller waiting on a record of that batch or a later one gets
+ * the error, and the log refuses further appends: a failed write may have left part of the
+ * batch on disk, so later records could not be replayed reliably.
+ */
+public class MutationLog implements Closeable {
+
+    public static final byte ADD_TEAM = 1;
+    public static final byte SCORES = 2;
+    public static final byte DETAILS = 3;
+    public static final byte FULL_DETAILS = 4;
+    public static final byte DISQUALIFY = 5;
+    public static final byte REMOVE_TEAM = 6;
+    public static final byte ASSIGN_JUDGE = 7;
+    // A team's whole judging panel: team number, judge count, judge names
+    public static final byte ASSIGN_JUDGES = 8;
+    // One judge's submission: team number, judge name, 5 scores
+    public static final byte JUDGE_SCORES = 9;
+
+    // Writes the payload of one record.
+    public interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // Applies one record during replay.
+    public interface Replayer {
+        void replay(byte op, DataInputStream in) throws IOException;
+    }
+
+    private static final int MAX_RECORD_SIZE = 1 << 20;
+
+    private final Path path;
+    private FileChannel channel;
+
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(128);
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final CRC32 crc = new CRC32();
+
+    private ByteArrayOutputStream pending = new ByteArrayOutputStream(4096);
+    private long appendedSeq;
+    private long durableSeq;
+    // Highest sequence number a caller is waiting for
+    private long requestedSeq;
+    // Truncations asked for by reset and carried out by the writer
+    private long resetsRequested;
+    private long resetsDone;
+    private boolean closing;
+    private Thread writer;
+    private int recordCount;
+    // First failed write or fsync; nothing after durableSeq can be trusted to be on disk
+    private IOException failure;
+
+    public MutationLog(Path path) {
+        this.path = path;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Replays every intact record in order and truncates anything after the last intact one.
+     * Returns the number of records replayed.
+     */
+    public int replay(Replayer replayer) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        byte[] data = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        int replayed = 0;
+        int validEnd = 0;
+        CRC32 check = new CRC32();
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+            if (length < 1 || length > MAX_RECORD_SIZE || buffer.remaining() < length + 4) {
+                break;
+            }
+            int start = buffer.position();
+            check.reset();
+            check.update(data, start, length);
+            buffer.position(start + length);
+            if ((int) check.getValue() != buffer.getInt()) {
+                break;
+            }
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, start + 1, length - 1))) {
+                replayer.replay(data[start], in);
+            } catch (EOFException e) {
+                throw new IOException("Malformed mutation log record at offset " + (start - 4), e);
+            }
+            replayed++;
+            validEnd = buffer.position();
+        }
+        if (validEnd < data.length) {
+            System.err.println("Mutation log: discarding " + (data.length - validEnd) + " bytes of incomplete records.");
+            try (FileChannel truncate = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                truncate.truncate(validEnd);
+                truncate.force(true);
+            }
+        }
+        recordCount = replayed;
+        return replayed;
+    }
+
+    public synchronized void open() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            closing = false;
+            writer = new Thread(this::writeLoop, "mutation-log-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Buffers one record and returns its sequence number. The record is not durable until
+     * awaitDurable has returned for that sequence number.
+     */
+    public synchronized long append(byte op, RecordWriter body) throws IOException {
+        checkFailure();
+        recordBuffer.reset();
+        recordOut.writeByte(op);
+        body.write(recordOut);
+        recordOut.flush();
+        byte[] record = recordBuffer.toByteArray();
+
+        crc.reset();
+        crc.update(record, 0, record.length);
+        DataOutputStream out = new DataOutputStream(pending);
+        out.writeInt(record.length);
+        out.write(record);
+        out.writeInt((int) crc.getValue());
+        recordCount++;
+        return ++appendedSeq;
+    }
+
+    /**
+     * Blocks until the record with the given sequence number has been written and fsynced.
+     * Throws if the group commit covering it failed. An interrupt does not end the wait, as the
+     * record would still become durable; the thread's interrupt status is set again on return.
+     */
+    public void awaitDurable(long seq) throws IOException {
+        boolean interrupted = false;
+        try {
+            synchronized (this) {
+                if (seq > requestedSeq) {
+                    requestedSeq = seq;
+                    notifyAll();
+                }
+                while (durableSeq < seq) {
+                    checkFailure();
+                    checkOpen();
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // The writer thread: one group commit per pass, then any truncation reset asked for.
+    private void writeLoop() {
+        while (true) {
+            ByteArrayOutputStream batch;
+            long batchSeq;
+            long resetTarget;
+            synchronized (this) {
+                while (failure == null && requestedSeq <= durableSeq && resetsDone == resetsRequested && !closing) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // Nothing interrupts the writer on purpose; keep serving the callers
+                    }
+                }
+                if (failure != null || (closing && durableSeq == appendedSeq && resetsDone == resetsRequested)) {
+                    writer = null;
+                    notifyAll();
+                    return;
+                }
+                batch = pending;
+                batchSeq = appendedSeq;
+                resetTarget = resetsRequested;
+                pending = new ByteArrayOutputStream(Math.max(4096, batch.size()));
+            }
+            try {
+                if (batch.size() > 0) {
+                    ByteBuffer bytes = ByteBuffer.wrap(batch.toByteArray());
+                    while (bytes.hasRemaining()) {
+                        channel.write(bytes);
+                    }
+                    channel.force(false);
+                }
+                if (resetTarget != resetsDone) {
+                    channel.truncate(0);
+                    channel.force(true);
+                }
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = e instanceof IOException ? (IOException) e : new IOException("Mutation log write failed", e);
+                    }
+                    writer = null;
+                    notifyAll();
+                }
+                return;
+            }
+            synchronized (this) {
+                durableSeq = Math.max(durableSeq, batchSeq);
+                resetsDone = resetTarget;
+                notifyAll();
+            }
+        }
+    }
+
+    // Whether a group commit has failed; the log then accepts no more records.
+    public synchronized boolean isFailed() {
+        return failure != null;
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Mutation log commit failed", failure);
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (writer == null) {
+            throw new IOException("Mutation log is not open");
+        }
+    }
+
+    public void commit(byte op, RecordWriter body) throws IOException {
+        awaitDurable(append(op, body));
+    }
+
+    // Number of records in the log since it was last reset.
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Empties the log once its contents are covered by a snapshot. The caller must keep new
+     * records from being appended meanwhile (HackathonManager holds its compaction lock).
+     */
+    public void reset() throws IOException {
+        boolean interrupted = false;
+        try {
+            synchronized (this) {
+                checkFailure();
+                long target = ++resetsRequested;
+                requestedSeq = Math.max(requestedSeq, appendedSeq);
+                notifyAll();
+                while (resetsDone < target) {
+                    checkFailure();
+                    checkOpen();
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                recordCount = 0;
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes any buffered records, stops the writer and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        boolean interrupted = false;
+        try {
+            synchronized (this) {
+                if (channel == null) {
+                    return;
+                }
+                closing = true;
+                notifyAll();
+                while (writer != null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                try {
+                    if (durableSeq < appendedSeq) {
+                        checkFailure();
+                    }
+                } finally {
+                    channel.close();
+                    channel = null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
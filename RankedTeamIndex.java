@@ -0,0 +1,314 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live leaderboard: an order-statistic treap of teams ranked by overall score (highest first),
+ * with the team number as tie-breaker. Insert, remove, rank and k-th lookups are O(log n).
+ *
+ * The score a team is ranked under is captured when the team is added, so callers must
+ * remove a team before mutating it and add it back afterwards (see TeamList.updateTeam).
+ */
+public class RankedTeamIndex {
+
+    private static final class Node {
+        final AbstractHackathonTeam team;
+        final double score;
+        final int teamNumber;
+        final int priority;
+        Node left, right;
+        int size = 1;
+
+        Node(AbstractHackathonTeam team, double score, int priority) {
+            this.team = team;
+            this.score = score;
+            this.teamNumber = team.getTeamNumber();
+            this.priority = priority;
+        }
+    }
+
+    private Map<Integer, Node> nodes = new HashMap<>();
+    private Node root;
+    private int seed = 0x2545F491;
+
+    public void add(AbstractHackathonTeam team) {
+        remove(team.getTeamNumber());
+        Node node = new Node(team, team.getOverallScore(), nextPriority());
+        nodes.put(node.teamNumber, node);
+        root = insert(root, node);
+    }
+
+    public boolean remove(int teamNumber) {
+        Node node = nodes.remove(teamNumber);
+        if (node == null) {
+            return false;
+        }
+        root = erase(root, node.score, node.teamNumber);
+        return true;
+    }
+
+    public boolean contains(int teamNumber) {
+        return nodes.containsKey(teamNumber);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Replaces the contents with the first count teams of ranked, which must already be in rank
+     * order, each ranked under the matching entry of scores. Builds the treap in a single O(n)
+     * pass (a Cartesian tree over the random priorities) instead of n O(log n) inserts.
+     */
+    public void rebuild(AbstractHackathonTeam[] ranked, double[] scores, int count) {
+        // Sized up front so a million teams do not go through repeated rehashing
+        nodes = new HashMap<>(Math.max(16, (int) (count / 0.75f) + 1));
+        root = null;
+        // Right spine of the tree built so far; nodes popped off it are complete subtrees
+        Node[] spine = new Node[64];
+        int top = 0;
+        for (int i = 0; i < count; i++) {
+            Node node = new Node(ranked[i], scores[i], nextPriority());
+            nodes.put(node.teamNumber, node);
+            Node last = null;
+            while (top > 0 && spine[top - 1].priority < node.priority) {
+                last = spine[--top];
+                update(last);
+            }
+            node.left = last;
+            if (top > 0) {
+                spine[top - 1].right = node;
+            }
+            if (top == spine.length) {
+                spine = Arrays.copyOf(spine, top * 2);
+            }
+            spine[top++] = node;
+        }
+        while (top > 0) {
+            update(spine[--top]);
+        }
+        root = count > 0 ? spine[0] : null;
+    }
+
+    // Returns the team at the given 0-based rank, or null if out of range.
+    public AbstractHackathonTeam get(int rank) {
+        if (rank < 0 || rank >= size()) {
+            return null;
+        }
+        Node current = root;
+        while (current != null) {
+            int leftSize = size(current.left);
+            if (rank < leftSize) {
+                current = current.left;
+            } else if (rank == leftSize) {
+                return current.team;
+            } else {
+                rank -= leftSize + 1;
+                current = current.right;
+            }
+        }
+        return null;
+    }
+
+    public AbstractHackathonTeam first() {
+        return get(0);
+    }
+
+    // Returns the 0-based rank of the team, or -1 if it is not ranked.
+    public int rankOf(int teamNumber) {
+        Node node = nodes.get(teamNumber);
+        if (node == null) {
+            return -1;
+        }
+        int rank = 0;
+        Node current = root;
+        while (current != null) {
+            int cmp = compare(node.score, node.teamNumber, current);
+            if (cmp < 0) {
+                current = current.left;
+            } else if (cmp > 0) {
+                rank += size(current.left) + 1;
+                current = current.right;
+            } else {
+                return rank + size(current.left);
+            }
+        }
+        return -1;
+    }
+
+    public List<AbstractHackathonTeam> topK(int k) {
+        List<AbstractHackathonTeam> result = new ArrayList<>(Math.max(0, Math.min(k, size())));
+        collect(root, result, k);
+        return result;
+    }
+
+    public List<AbstractHackathonTeam> toList() {
+        return topK(size());
+    }
+
+    // Returns up to count teams starting at the given 0-based rank, in O(log n + count).
+    public List<AbstractHackathonTeam> range(int from, int count) {
+        List<AbstractHackathonTeam> result = new ArrayList<>(Math.max(0, Math.min(count, size() - from)));
+        if (from < 0 || from >= size()) {
+            return result;
+        }
+        // Descend to the node at rank from, stacking the ancestors still to be visited after it
+        Node[] stack = new Node[64];
+        int top = 0;
+        Node current = root;
+        int skip = from;
+        while (current != null) {
+            int leftSize = size(current.left);
+            if (skip <= leftSize) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = current;
+                if (skip == leftSize) {
+                    break;
+                }
+                current = current.left;
+            } else {
+                skip -= leftSize + 1;
+                current = current.right;
+            }
+        }
+        // Continue the in-order walk from there
+        current = null;
+        while ((current != null || top > 0) && result.size() < count) {
+            while (current != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = current;
+                current = current.left;
+            }
+            current = stack[--top];
+            result.add(current.team);
+            current = current.right;
+        }
+        return result;
+    }
+
+    // --- Treap internals ---
+
+    private int nextPriority() {
+        // xorshift: cheap and good enough to keep the treap balanced
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    // Higher scores sort first; equal scores are ordered by ascending team number.
+    private static int compare(double score, int teamNumber, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : Integer.compare(teamNumber, node.teamNumber);
+    }
+
+    private static Node insert(Node current, Node node) {
+        if (current == null) {
+            return node;
+        }
+        if (node.priority > current.priority) {
+            Node[] parts = split(current, node.score, node.teamNumber);
+            node.left = parts[0];
+            node.right = parts[1];
+            update(node);
+            return node;
+        }
+        if (compare(node.score, node.teamNumber, current) < 0) {
+            current.left = insert(current.left, node);
+        } else {
+            current.right = insert(current.right, node);
+        }
+        update(current);
+        return current;
+    }
+
+    private static Node erase(Node current, double score, int teamNumber) {
+        if (current == null) {
+            return null;
+        }
+        int cmp = compare(score, teamNumber, current);
+        if (cmp == 0) {
+            return merge(current.left, current.right);
+        }
+        if (cmp < 0) {
+            current.left = erase(current.left, score, teamNumber);
+        } else {
+            current.right = erase(current.right, score, teamNumber);
+        }
+        update(current);
+        return current;
+    }
+
+    // Splits into nodes ordered before the key and nodes ordered at or after it.
+    private static Node[] split(Node current, double score, int teamNumber) {
+        if (current == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, teamNumber, current) > 0) {
+            Node[] parts = split(current.right, score, teamNumber);
+            current.right = parts[0];
+            update(current);
+            parts[0] = current;
+            return parts;
+        }
+        Node[] parts = split(current.left, score, teamNumber);
+        current.left = parts[1];
+        update(current);
+        parts[1] = current;
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static void collect(Node node, List<AbstractHackathonTeam> out, int limit) {
+        // Iterative in-order walk so deep or large trees never hit the stack limit
+        Node[] stack = new Node[64];
+        int top = 0;
+        Node current = node;
+        while ((current != null || top > 0) && out.size() < limit) {
+            while (current != null) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = current;
+                current = current.left;
+            }
+            current = stack[--top];
+            out.add(current.team);
+            current = current.right;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package hackathonsystem.model;
+
+import java.util.Arrays;
+
+/**
+ * A team registered live through the "Register Team" dialog. It has not been placed in a
+ * scoring category subclass yet, so it has no scoring rule and its overall score is always 0;
+ * its scores and judge submissions are still recorded.
+ */
+public class RegisteredTeam extends AbstractHackathonTeam {
+    private final String[] members;
+
+    public RegisteredTeam(int teamNumber, String teamName, String category, String university, boolean eligibility, String leaderName, int[] scores, String[] members) {
+        super(teamNumber, teamName, category, university, eligibility, leaderName, scores);
+        this.members = members.clone();
+    }
+
+    public String[] getMembers() {
+        return members.clone();
+    }
+
+    @Override
+    protected double computeOverallScore() {
+        return 0;
+    }
+
+    @Override
+    public String getUniqueAttributeDetails() {
+        return Arrays.toString(members);
+    }
+}
@@ -0,0 +1,344 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams the ranked team report as plain text (the HackathonReport.txt layout), CSV or JSON
+ * Lines, to a file or any OutputStream.
+ *
+ * The leaderboard is read in chunks of CHUNK_ROWS ranks, each under a short read lock, so
+ * memory use does not grow with the number of teams and judges are never blocked for the whole
+ * report. A team whose rank changes while the report is written may therefore appear at its
+ * rank from either side of the change. Rows are formatted by hand into one reused buffer,
+ * which is handed to the writer whenever it fills.
+ */
+public class ReportWriter {
+
+    public enum Format {
+        TEXT, CSV, JSONL;
+
+        // Picks the format from a file name's extension; anything unrecognized is TEXT.
+        public static Format forFileName(String fileName) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            if (lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            return TEXT;
+        }
+    }
+
+    private static final int CHUNK_ROWS = 4096;
+    private static final int FLUSH_CHARS = 1 << 16;
+    private static final String TEXT_RULE =
+        "-----------------------------------------------------------------------------------------------------------------\n";
+
+    private final TeamList teamList;
+    private final Format format;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+
+    public ReportWriter(TeamList teamList, Format format) {
+        this.teamList = teamList;
+        this.format = format;
+    }
+
+    public void write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    // Writes the whole report; the stream is flushed but left open.
+    public void write(OutputStream stream) throws IOException {
+        Writer out = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+        buffer.setLength(0);
+        writeHeader();
+        int rank = 0;
+        while (true) {
+            List<AbstractHackathonTeam> chunk = teamList.getRankedTeams(rank, CHUNK_ROWS);
+            for (AbstractHackathonTeam team : chunk) {
+                rank++;
+                writeRow(rank, team);
+                if (buffer.length() >= FLUSH_CHARS) {
+                    flush(out);
+                }
+            }
+            if (chunk.size() < CHUNK_ROWS) {
+                break;
+            }
+        }
+        flush(out);
+        out.flush();
+    }
+
+    private void flush(Writer out) throws IOException {
+        out.append(buffer);
+        buffer.setLength(0);
+    }
+
+    private void writeHeader() {
+        switch (format) {
+            case TEXT:
+                writeTextSummary();
+                break;
+            case CSV:
+                buffer.append("rank,team_number,team_name,university,category,eligible,overall_score,judges\n");
+                break;
+            case JSONL:
+                break;
+        }
+    }
+
+    private void writeTextSummary() {
+        buffer.append("--- HACKATHON SYSTEM FINAL REPORT ---\n");
+        buffer.append("Generated on: ").append(new Date()).append('\n');
+        buffer.append("Total Teams Processed: ").append(teamList.getTeamCount()).append('\n');
+        buffer.append("Average Overall Score: ");
+        appendFixed2(teamList.calculateAverageOverallScore());
+        buffer.append(" (max 5.0)\n");
+
+        AbstractHackathonTeam topTeam = teamList.getTopTeam();
+        if (topTeam != null) {
+            buffer.append("Top Scoring Team: ").append(topTeam.getTeamName()).append(" (")
+                  .append(topTeam.getTeamNumber()).append(") with a score of ");
+            appendFixed2(topTeam.getOverallScore());
+            buffer.append('\n');
+        } else {
+            buffer.append("No teams available to calculate top team.\n");
+        }
+
+        buffer.append("\n--- Score Distribution (Individual Score Frequency 0-5) ---\n");
+        int[] frequency = teamList.calculateScoreFrequency();
+        buffer.append("Score | Count\n");
+        buffer.append("------|------\n");
+        for (int i = 0; i <= 5 && i < frequency.length; i++) {
+            int start = buffer.length();
+            buffer.append(i);
+            padLeft(start, 5);
+            buffer.append(" | ");
+            start = buffer.length();
+            buffer.append(frequency[i]);
+            padLeft(start, 5);
+            buffer.append('\n');
+        }
+
+        buffer.append("\n--- Full Team List (Ranked by Overall Score) ---\n");
+        buffer.append(String.format("%-5s | %-15s | %-30s | %-15s | %-15s | %-10s | %-20s\n",
+            "Rank", "ID", "Name", "Category", "Eligibility", "Score", "Assigned Judge"));
+        buffer.append(TEXT_RULE);
+    }
+
+    private void writeRow(int rank, AbstractHackathonTeam team) {
+        switch (format) {
+            case TEXT:
+                writeTextRow(rank, team);
+                break;
+            case CSV:
+                writeCsvRow(rank, team);
+                break;
+            case JSONL:
+                writeJsonRow(rank, team);
+                break;
+        }
+    }
+
+    // Same layout as "%-5d | %-15d | %-30s | %-15s | %-15s | %-10.2f | %-20s\n".
+    private void writeTextRow(int rank, AbstractHackathonTeam team) {
+        int start = buffer.length();
+        buffer.append(rank);
+        padRight(start, 5);
+        buffer.append(" | ");
+        writeTextRowTail(team, teamList.getJudgeForTeam(team.getTeamNumber()));
+    }
+
+    // Every column after the rank, which is the part of a row that depends only on the team.
+    private void writeTextRowTail(AbstractHackathonTeam team, String judge) {
+        int start = buffer.length();
+        buffer.append(team.getTeamNumber());
+        padRight(start, 15);
+        buffer.append(" | ");
+        start = buffer.length();
+        buffer.append(team.getTeamName());
+        padRight(start, 30);
+        buffer.append(" | ");
+        start = buffer.length();
+        buffer.append(team.getCategory());
+        padRight(start, 15);
+        buffer.append(" | ");
+        start = buffer.length();
+        buffer.append(team.isEligibility() ? "Eligible" : "INELIGIBLE");
+        padRight(start, 15);
+        buffer.append(" | ");
+        start = buffer.length();
+        appendFixed2(team.getOverallScore());
+        padRight(start, 10);
+        buffer.append(" | ");
+        start = buffer.length();
+        buffer.append(judge);
+        padRight(start, 20);
+        buffer.append('\n');
+    }
+
+    // --- Text pieces for IncrementalReportGenerator ---
+
+    // The summary sections and the ranked table's heading.
+    String renderTextHeader() {
+        buffer.setLength(0);
+        writeTextSummary();
+        String header = buffer.toString();
+        buffer.setLength(0);
+        return header;
+    }
+
+    // One text row without its leading rank column.
+    String renderTextRowTail(AbstractHackathonTeam team, String judge) {
+        buffer.setLength(0);
+        writeTextRowTail(team, judge);
+        String tail = buffer.toString();
+        buffer.setLength(0);
+        return tail;
+    }
+
+    private void writeCsvRow(int rank, AbstractHackathonTeam team) {
+        buffer.append(rank).append(',').append(team.getTeamNumber()).append(',');
+        appendCsv(team.getTeamName());
+        buffer.append(',');
+        appendCsv(team.getUniversity());
+        buffer.append(',');
+        appendCsv(team.getCategory());
+        buffer.append(',').append(team.isEligibility()).append(',');
+        appendFixed2(team.getOverallScore());
+        buffer.append(',');
+        // A team's panel shares one field, judges separated by "; "
+        appendCsv(String.join("; ", teamList.getJudgesForTeam(team.getTeamNumber())));
+        buffer.append('\n');
+    }
+
+    private void writeJsonRow(int rank, AbstractHackathonTeam team) {
+        buffer.append("{\"rank\":").append(rank)
+              .append(",\"teamNumber\":").append(team.getTeamNumber())
+              .append(",\"teamName\":");
+        appendJson(team.getTeamName());
+        buffer.append(",\"university\":");
+        appendJson(team.getUniversity());
+        buffer.append(",\"category\":");
+        appendJson(team.getCategory());
+        buffer.append(",\"eligible\":").append(team.isEligibility())
+              .append(",\"overallScore\":");
+        appendFixed2(team.getOverallScore());
+        buffer.append(",\"judges\":[");
+        List<String> judges = teamList.getJudgesForTeam(team.getTeamNumber());
+        for (int i = 0; i < judges.size(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendJson(judges.get(i));
+        }
+        buffer.append("]}\n");
+    }
+
+    // --- Formatting helpers ---
+
+    private void padRight(int start, int width) {
+        for (int i = buffer.length() - start; i < width; i++) {
+            buffer.append(' ');
+        }
+    }
+
+    private void padLeft(int start, int width) {
+        int padding = width - (buffer.length() - start);
+        for (int i = 0; i < padding; i++) {
+            buffer.insert(start, ' ');
+        }
+    }
+
+    private void appendFixed2(double value) {
+        appendFixed2(buffer, value);
+    }
+
+    /**
+     * Appends the value with two decimals, matching String.format(Locale.ROOT, "%.2f"). Values
+     * whose scaled fraction is too close to .5 to round reliably from the double product take the
+     * Formatter path instead. Also used by the views, which show scores the way reports do.
+     */
+    public static void appendFixed2(StringBuilder buffer, double value) {
+        double scaled = Math.abs(value) * 100;
+        double fraction = scaled - Math.floor(scaled);
+        if (!(scaled < 1e15) || Math.abs(fraction - 0.5) < 1e-6) {
+            buffer.append(String.format(Locale.ROOT, "%.2f", value));
+            return;
+        }
+        long cents = Math.round(scaled);
+        if (value < 0 || (value == 0 && Double.doubleToRawLongBits(value) != 0)) {
+            buffer.append('-');
+        }
+        buffer.append(cents / 100).append('.');
+        long remainder = cents % 100;
+        if (remainder < 10) {
+            buffer.append('0');
+        }
+        buffer.append(remainder);
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; null is an empty field.
+    private void appendCsv(String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            buffer.append(value);
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+
+    private void appendJson(String value) {
+        if (value == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': buffer.append("\\\""); break;
+                case '\\': buffer.append("\\\\"); break;
+                case '\n': buffer.append("\\n"); break;
+                case '\r': buffer.append("\\r"); break;
+                case '\t': buffer.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        buffer.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        buffer.append(c);
+                    }
+            }
+        }
+        buffer.append('"');
+    }
+}
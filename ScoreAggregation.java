@@ -0,0 +1,85 @@
+package hackathonsystem.model;
+
+/**
+ * How a team's per-judge submissions are combined into one score per criterion (see
+ * ScoringRules.setAggregation; each TeamList has its own). Each method works from the number of submissions that gave each
+ * score 0-5 (see JudgeScoreSheet), so its cost does not grow with the number of judges.
+ */
+public enum ScoreAggregation {
+
+    // Average of every submission
+    MEAN,
+    // Average without the highest and lowest submissions: 10% from each end, at least one once there are 3
+    TRIMMED_MEAN,
+    // Middle submission, or the average of the two middle ones
+    MEDIAN;
+
+    static final int MAX_SCORE = 5;
+
+    // Aggregates total submissions, of which counts[offset + v] gave score v.
+    double aggregate(int[] counts, int offset, int total) {
+        if (total == 0) {
+            return 0.0;
+        }
+        return meanOfRanks(counts, offset, firstRank(total), lastRank(total));
+    }
+
+    // Aggregates fractional submissions, e.g. normalized ones, given in ascending order.
+    double aggregate(double[] sorted) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int from = firstRank(sorted.length);
+        int to = lastRank(sorted.length);
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += sorted[i];
+        }
+        return sum / (to - from);
+    }
+
+    // The aggregate is the mean of the submissions ranked [firstRank, lastRank) in ascending order.
+    private int firstRank(int total) {
+        switch (this) {
+            case TRIMMED_MEAN: return trim(total);
+            case MEDIAN: return (total - 1) / 2;
+            default: return 0;
+        }
+    }
+
+    private int lastRank(int total) {
+        switch (this) {
+            case TRIMMED_MEAN: return total - trim(total);
+            case MEDIAN: return total / 2 + 1;
+            default: return total;
+        }
+    }
+
+    private static int trim(int total) {
+        return total < 3 ? 0 : Math.max(1, total / 10);
+    }
+
+    // Average of the submissions ranked [from, to) in ascending order of score.
+    private static double meanOfRanks(int[] counts, int offset, int from, int to) {
+        long sum = 0;
+        int seen = 0;
+        for (int value = 0; value <= MAX_SCORE && seen < to; value++) {
+            int count = counts[offset + value];
+            int overlap = Math.min(seen + count, to) - Math.max(seen, from);
+            if (overlap > 0) {
+                sum += (long) overlap * value;
+            }
+            seen += count;
+        }
+        return (double) sum / (to - from);
+    }
+
+    @Override
+    public String toString() {
+        switch (this) {
+            case TRIMMED_MEAN: return "Trimmed mean";
+            case MEDIAN: return "Median";
+            default: return "Mean";
+        }
+    }
+}
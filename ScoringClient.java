@@ -0,0 +1,220 @@
+package hackathonsystem.controller;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ScoringService that talks to a ScoringServer, for judges running the thin client on another
+ * machine. One connection per client; calls are serialized on it. The connection must be
+ * signed in with login before it is used, and judge submissions are made as the judge it
+ * signed in as.
+ */
+public class ScoringClient implements ScoringService, Closeable {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final Writer out;
+    // The judge the server signed this connection in as; null before login and for organizers
+    private String judgeName;
+
+    public ScoringClient(String host, int port) throws IOException {
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MILLIS);
+        in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    // Parses "host:port" (port defaults to 5050).
+    public static ScoringClient connect(String hostAndPort) throws IOException {
+        int colon = hostAndPort.lastIndexOf(':');
+        if (colon < 0) {
+            return new ScoringClient(hostAndPort, ScoringProtocol.DEFAULT_PORT);
+        }
+        try {
+            return new ScoringClient(hostAndPort.substring(0, colon), Integer.parseInt(hostAndPort.substring(colon + 1)));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid server address: " + hostAndPort);
+        }
+    }
+
+    /**
+     * Signs the connection in; every other request except PING needs this first. Returns the
+     * account's role. Throws if the server rejects the credentials.
+     */
+    public synchronized String login(String username, String password) throws IOException {
+        String[] parts = request("LOGIN " + ScoringProtocol.escape(username) + " " + ScoringProtocol.escape(password)).split(" ", 3);
+        judgeName = parts.length > 2 ? ScoringProtocol.unescape(parts[2]) : null;
+        return parts.length > 1 ? parts[1] : "";
+    }
+
+    // The judge this connection scores as, or null.
+    public synchronized String getJudgeName() {
+        return judgeName;
+    }
+
+    @Override
+    public synchronized TeamDetails findTeam(int teamNumber) throws IOException {
+        return parseTeam(request("FIND " + teamNumber));
+    }
+
+    @Override
+    public synchronized List<TeamSummary> searchTeams(String query, int limit) throws IOException {
+        String response = request("SEARCH " + limit + " " + ScoringProtocol.escape(query));
+        int size = Integer.parseInt(response.substring(3));
+        List<TeamSummary> matches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // id name<TAB>university<TAB>category
+            String[] parts = readLine().split(" ", 2);
+            String[] fields = (parts.length > 1 ? parts[1] : "").split("\t", -1);
+            matches.add(new TeamSummary(Integer.parseInt(parts[0]), ScoringProtocol.unescape(fields[0]),
+                fields.length > 1 ? ScoringProtocol.unescape(fields[1]) : "",
+                fields.length > 2 ? ScoringProtocol.unescape(fields[2]) : ""));
+        }
+        return matches;
+    }
+
+    @Override
+    public synchronized TeamDetails nextTeamForJudge(String judgeName) throws IOException {
+        checkSignedInAs(judgeName);
+        return parseTeam(request("NEXT"));
+    }
+
+    @Override
+    public synchronized List<String> getJudges() throws IOException {
+        String response = request("JUDGES");
+        int size = Integer.parseInt(response.substring(3));
+        List<String> judges = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            judges.add(ScoringProtocol.unescape(readLine()));
+        }
+        return judges;
+    }
+
+    private static TeamDetails parseTeam(String response) {
+        if (response.equals("NOTFOUND")) {
+            return null;
+        }
+        // OK id s1 s2 s3 s4 s5 details
+        String[] parts = response.split(" ", 8);
+        int[] scores = new int[5];
+        for (int i = 0; i < 5; i++) {
+            scores[i] = Integer.parseInt(parts[2 + i]);
+        }
+        return new TeamDetails(Integer.parseInt(parts[1]), ScoringProtocol.unescape(parts.length > 7 ? parts[7] : ""), scores);
+    }
+
+    @Override
+    public synchronized boolean updateTeamScores(int teamNumber, int[] scores) throws IOException {
+        return request("SCORE " + teamNumber + formatScores(scores)).equals("OK 1");
+    }
+
+    @Override
+    public synchronized boolean submitJudgeScores(String judgeName, int teamNumber, int[] scores) throws IOException {
+        checkSignedInAs(judgeName);
+        return request("JSCORE " + teamNumber + formatScores(scores)).equals("OK 1");
+    }
+
+    // The server acts for the signed-in judge only; refuse to present it as anyone else.
+    private void checkSignedInAs(String judge) throws IOException {
+        if (!judge.equals(judgeName)) {
+            throw new IOException("Signed in as " + (judgeName == null ? "an organizer" : judgeName) + ", not " + judge);
+        }
+    }
+
+    @Override
+    public synchronized boolean[] updateTeamScores(int[] teamNumbers, int[][] scores) throws IOException {
+        return batch(teamNumbers, scores);
+    }
+
+    @Override
+    public synchronized boolean[] submitJudgeScores(String judgeName, int[] teamNumbers, int[][] scores) throws IOException {
+        checkSignedInAs(judgeName);
+        return batch(teamNumbers, scores);
+    }
+
+    // BATCH is recorded as the signed-in judge's submissions, or as raw scores for organizers.
+    private boolean[] batch(int[] teamNumbers, int[][] scores) throws IOException {
+        StringBuilder sb = new StringBuilder(teamNumbers.length * 20);
+        sb.append("BATCH ").append(teamNumbers.length);
+        for (int i = 0; i < teamNumbers.length; i++) {
+            sb.append('\n').append(teamNumbers[i]).append(formatScores(scores[i]));
+        }
+        String response = request(sb.toString());
+        boolean[] applied = new boolean[teamNumbers.length];
+        for (int i = 0; i < applied.length && 3 + i < response.length(); i++) {
+            applied[i] = response.charAt(3 + i) == '1';
+        }
+        return applied;
+    }
+
+    @Override
+    public synchronized List<LeaderboardEntry> getLeaderboard(int count) throws IOException {
+        String response = request("TOP " + count);
+        int size = Integer.parseInt(response.substring(3));
+        List<LeaderboardEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String[] parts = readLine().split(" ", 4);
+            // rank id score name
+            entries.add(new LeaderboardEntry(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                parts.length > 3 ? ScoringProtocol.unescape(parts[3]) : "", Double.parseDouble(parts[2])));
+        }
+        return entries;
+    }
+
+    @Override
+    public synchronized void generateReport() throws IOException {
+        request("REPORT");
+    }
+
+    private static String formatScores(int[] scores) {
+        StringBuilder sb = new StringBuilder(12);
+        for (int score : scores) {
+            sb.append(' ').append(score);
+        }
+        return sb.toString();
+    }
+
+    // Sends one request and returns the first response line; ERR responses become IOExceptions.
+    private String request(String request) throws IOException {
+        out.write(request);
+        out.write('\n');
+        out.flush();
+        String response = readLine();
+        if (response.startsWith("ERR")) {
+            throw new IOException("Server rejected request: " + ScoringProtocol.unescape(response.substring(Math.min(4, response.length()))));
+        }
+        return response;
+    }
+
+    private String readLine() throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            throw new IOException("Scoring server closed the connection");
+        }
+        return line;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            out.write("QUIT\n");
+            out.flush();
+        } catch (IOException e) {
+            // Already disconnected
+        }
+        socket.close();
+    }
+}
@@ -0,0 +1,186 @@
+package hackathonsystem.benchmark;
+
+import hackathonsystem.controller.AuthenticationManager;
+import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.LocalScoringService;
+import hackathonsystem.controller.ScoringClient;
+import hackathonsystem.controller.ScoringServer;
+import hackathonsystem.controller.ScoringService;
+import hackathonsystem.controller.UserRepository;
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.WebDevTeam;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Simulates many judges scoring at once against a ScoringServer. Each judge holds its own
+ * connection and mixes single score updates, batched submissions and team lookups; the run
+ * reports throughput and latency percentiles and then checks the server's leaderboard.
+ *
+ * Usage: java hackathonsystem.benchmark.ScoringLoadGenerator [judges] [seconds] [teams] [batchSize] [host:port] [user] [password]
+ *
+ * Without host:port an in-process server with synthetic teams is started on a free localhost
+ * port (without a mutation log); with host:port an already running --server is targeted and
+ * [teams] must match the team numbers it holds (101 upwards). Every connection signs in with
+ * the given account (judge1 by default); a judge account records its submissions as that judge,
+ * an organizer account overwrites team scores directly.
+ */
+public class ScoringLoadGenerator {
+
+    private static final int LATENCY_SAMPLES_PER_JUDGE = 1 << 14;
+
+    public static void main(String[] args) throws Exception {
+        int judges = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int teams = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int batchSize = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        String target = args.length > 4 ? args[4] : null;
+        String username = args.length > 5 ? args[5] : "judge1";
+        String password = args.length > 6 ? args[6] : "judgepass";
+
+        HackathonManager manager = null;
+        ScoringServer server = null;
+        if (target == null) {
+            manager = new HackathonManager();
+            Random random = new Random(1);
+            for (int i = 0; i < teams; i++) {
+                manager.getTeamList().addTeam(new WebDevTeam(101 + i, "Team " + (101 + i), "Web Development", "UM", true, "TT",
+                    randomScores(random), random.nextBoolean()));
+            }
+            AuthenticationManager authentication = new AuthenticationManager(new UserRepository(), manager);
+            server = new ScoringServer(new LocalScoringService(manager), authentication, 0);
+            server.start();
+            target = "localhost:" + server.getPort();
+        }
+
+        AtomicLong requests = new AtomicLong();
+        AtomicLong submissions = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        long[][] latencies = new long[judges][];
+        int[] sampleCounts = new int[judges];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        long[] deadline = new long[1];
+
+        for (int j = 0; j < judges; j++) {
+            int judge = j;
+            ScoringClient client = ScoringClient.connect(target);
+            client.login(username, password);
+            // Judge accounts submit their own scores; only organizer accounts overwrite them
+            String judgeName = client.getJudgeName();
+            latencies[judge] = new long[LATENCY_SAMPLES_PER_JUDGE];
+            threads.add(new Thread(() -> {
+                Random random = new Random(1000 + judge);
+                int[] batchTeams = new int[batchSize];
+                int[][] batchScores = new int[batchSize][];
+                try (client) {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        long began = System.nanoTime();
+                        int action = random.nextInt(10);
+                        if (action < 7) {
+                            int teamNumber = 101 + random.nextInt(teams);
+                            boolean applied = judgeName == null
+                                ? client.updateTeamScores(teamNumber, randomScores(random))
+                                : client.submitJudgeScores(judgeName, teamNumber, randomScores(random));
+                            if (!applied) {
+                                rejected.incrementAndGet();
+                            }
+                            submissions.incrementAndGet();
+                        } else if (action < 9) {
+                            for (int i = 0; i < batchSize; i++) {
+                                batchTeams[i] = 101 + random.nextInt(teams);
+                                batchScores[i] = randomScores(random);
+                            }
+                            boolean[] applied = judgeName == null
+                                ? client.updateTeamScores(batchTeams, batchScores)
+                                : client.submitJudgeScores(judgeName, batchTeams, batchScores);
+                            for (boolean ok : applied) {
+                                if (!ok) {
+                                    rejected.incrementAndGet();
+                                }
+                            }
+                            submissions.addAndGet(batchSize);
+                        } else {
+                            client.findTeam(101 + random.nextInt(teams));
+                        }
+                        long elapsed = System.nanoTime() - began;
+                        latencies[judge][sampleCounts[judge]++ & (LATENCY_SAMPLES_PER_JUDGE - 1)] = elapsed;
+                        requests.incrementAndGet();
+                    }
+                } catch (IOException | InterruptedException e) {
+                    failures.incrementAndGet();
+                    System.err.println("Judge " + judge + " failed: " + e.getMessage());
+                }
+            }, "judge-" + judge));
+        }
+
+        threads.forEach(Thread::start);
+        deadline[0] = System.nanoTime() + seconds * 1_000_000_000L;
+        long began = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsedSeconds = (System.nanoTime() - began) / 1e9;
+
+        long[] all = collect(latencies, sampleCounts);
+        Arrays.sort(all);
+        System.out.printf("%d judges, %.1f s against %s%n", judges, elapsedSeconds, target);
+        System.out.printf("requests: %,d (%,.0f/s)   score submissions: %,d (%,.0f/s)   rejected: %d   failed judges: %d%n",
+            requests.get(), requests.get() / elapsedSeconds, submissions.get(), submissions.get() / elapsedSeconds,
+            rejected.get(), failures.get());
+        System.out.printf("latency p50 %.2f ms   p99 %.2f ms   max %.2f ms%n",
+            percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6, all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+
+        boolean consistent = true;
+        if (manager != null) {
+            try (ScoringClient client = ScoringClient.connect(target)) {
+                client.login(username, password);
+                List<ScoringService.LeaderboardEntry> remote = client.getLeaderboard(10);
+                List<AbstractHackathonTeam> local = manager.getTeamList().getTopTeams(10);
+                for (int i = 0; i < local.size(); i++) {
+                    consistent &= remote.get(i).getTeamNumber() == local.get(i).getTeamNumber();
+                }
+            }
+            server.close();
+        }
+        System.out.println("leaderboard consistent: " + consistent);
+        if (failures.get() > 0 || rejected.get() > 0 || !consistent) {
+            System.exit(1);
+        }
+    }
+
+    private static int[] randomScores(Random random) {
+        int[] scores = new int[5];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(6);
+        }
+        return scores;
+    }
+
+    private static long[] collect(long[][] latencies, int[] counts) {
+        int total = 0;
+        for (int j = 0; j < counts.length; j++) {
+            total += Math.min(counts[j], LATENCY_SAMPLES_PER_JUDGE);
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (int j = 0; j < counts.length; j++) {
+            int n = Math.min(counts[j], LATENCY_SAMPLES_PER_JUDGE);
+            System.arraycopy(latencies[j], 0, all, offset, n);
+            offset += n;
+        }
+        return all;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, p * sorted.length)];
+    }
+}
@@ -0,0 +1,68 @@
+package hackathonsystem.controller;
+
+/**
+ * Line-based protocol spoken between ScoringClient and ScoringServer. Every request is one
+ * UTF-8 line (BATCH is followed by its submission lines); every response starts with OK,
+ * NOTFOUND or ERR. Apart from PING and QUIT, a connection must LOGIN first; JSCORE, NEXT and
+ * JUDGES act for the judge it signed in as, and so do SCORE and BATCH on a judge's connection.
+ * Only an organizer's SCORE and BATCH overwrite a team's scores directly.
+ *
+ *   LOGIN user password       -> OK role [judge] | ERR (the connection closes after 3 failures)
+ *   PING                      -> OK
+ *   FIND id                   -> OK id s1 s2 s3 s4 s5 details | NOTFOUND
+ *   SEARCH k text             -> OK n, then n lines of "id name<TAB>university<TAB>category"
+ *   SCORE id s1 s2 s3 s4 s5   -> OK 1 (applied) | OK 0 (rejected)
+ *   JSCORE id s1 s2 s3 s4 s5  -> same as SCORE, recorded as the signed-in judge's submission
+ *   BATCH n, then n lines of "id s1 s2 s3 s4 s5"
+ *                             -> OK followed by one 1/0 flag per submission, e.g. OK 1101
+ *   TOP k                     -> OK n, then n lines of "rank id score name"
+ *   JUDGES                    -> OK n, then the signed-in judge's name (n = 0 for organizers)
+ *   NEXT                      -> same as FIND, for the team the signed-in judge should score next
+ *   REPORT                    -> OK
+ *   QUIT                      -> connection closed
+ *
+ * Free text (details, names, the password) is escaped so that it never contains a line break
+ * or a tab. A request line longer than MAX_LINE_BYTES is answered with ERR and the connection
+ * is closed. So is a connection the server has no room for, and one that does not LOGIN in time
+ * is closed without a reply.
+ */
+final class ScoringProtocol {
+
+    static final int DEFAULT_PORT = 5050;
+    // Upper bound on BATCH, TOP and SEARCH sizes, so one client cannot exhaust server memory
+    static final int MAX_ITEMS = 10_000;
+    // Upper bound on one request line, for the same reason
+    static final int MAX_LINE_BYTES = 8 * 1024;
+
+    private ScoringProtocol() {
+    }
+
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static String unescape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next == 't' ? '\t' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package hackathonsystem.model;
+
+import java.util.Arrays;
+
+/**
+ * How a category turns the five criterion scores into an overall score:
+ *
+ *   clamp(min, max, (w0*s0 + w1*s1 + w2*s2 + w3*s3 + w4*s4 + adjustment) / divisor)
+ *
+ * where the adjustment is the bonus if the team has its category's attribute (e.g. uses a
+ * modern framework) and the penalty otherwise. Ineligible teams always score 0.
+ *
+ * Rules are immutable and keep the weights in plain fields, so scoring one team does not
+ * allocate and scoring many (scoreAll) is a straight loop over flat arrays.
+ */
+public final class ScoringRule {
+
+    public static final int CRITERIA = 5;
+
+    // Sum of the criteria, +2.5 with a modern framework and -5 without, averaged over the criteria
+    public static final ScoringRule WEB_DEVELOPMENT =
+        new ScoringRule(new double[]{1, 1, 1, 1, 1}, 2.5, -5.0, 5.0, 0.0, 5.0);
+    // Weighted average emphasising criteria 3-5, +0.5 for adhering to security standards
+    public static final ScoringRule CYBERSECURITY =
+        new ScoringRule(new double[]{0.10, 0.15, 0.30, 0.25, 0.20}, 0.5, 0.0, 1.0, 0.0, 5.0);
+
+    private final double w0, w1, w2, w3, w4;
+    private final double bonus;
+    private final double penalty;
+    private final double divisor;
+    private final double min;
+    private final double max;
+
+    public ScoringRule(double[] weights, double bonus, double penalty, double divisor, double min, double max) {
+        if (weights == null || weights.length != CRITERIA) {
+            throw new IllegalArgumentException("A scoring rule needs exactly " + CRITERIA + " weights");
+        }
+        if (!(divisor > 0)) {
+            throw new IllegalArgumentException("Divisor must be positive");
+        }
+        if (!(min <= max)) {
+            throw new IllegalArgumentException("Minimum must not exceed maximum");
+        }
+        this.w0 = weights[0];
+        this.w1 = weights[1];
+        this.w2 = weights[2];
+        this.w3 = weights[3];
+        this.w4 = weights[4];
+        this.bonus = bonus;
+        this.penalty = penalty;
+        this.divisor = divisor;
+        this.min = min;
+        this.max = max;
+    }
+
+    public double score(int[] scores, boolean eligible, boolean hasAttribute) {
+        if (!eligible) {
+            return 0.0;
+        }
+        double total = (scores[0] * w0) + (scores[1] * w1) + (scores[2] * w2) + (scores[3] * w3) + (scores[4] * w4);
+        total += hasAttribute ? bonus : penalty;
+        return Math.min(max, Math.max(min, total / divisor));
+    }
+
+    // Same as score(int[], ...) for fractional criterion scores, e.g. aggregated judge submissions.
+    public double score(double[] scores, boolean eligible, boolean hasAttribute) {
+        if (!eligible) {
+            return 0.0;
+        }
+        double total = (scores[0] * w0) + (scores[1] * w1) + (scores[2] * w2) + (scores[3] * w3) + (scores[4] * w4);
+        total += hasAttribute ? bonus : penalty;
+        return Math.min(max, Math.max(min, total / divisor));
+    }
+
+    /**
+     * Scores teams [from, to) at once, giving exactly the same results as score(). Scores are
+     * packed five per team (team i at i*5); results go to out[i].
+     */
+    public void scoreAll(int[] packedScores, boolean[] eligible, boolean[] hasAttribute, int from, int to, double[] out) {
+        for (int i = from, base = from * CRITERIA; i < to; i++, base += CRITERIA) {
+            double total = (packedScores[base] * w0) + (packedScores[base + 1] * w1) + (packedScores[base + 2] * w2)
+                + (packedScores[base + 3] * w3) + (packedScores[base + 4] * w4);
+            total += hasAttribute[i] ? bonus : penalty;
+            double score = Math.min(max, Math.max(min, total / divisor));
+            out[i] = eligible[i] ? score : 0.0;
+        }
+    }
+
+    public double[] getWeights() { return new double[]{w0, w1, w2, w3, w4}; }
+    public double getBonus() { return bonus; }
+    public double getPenalty() { return penalty; }
+    public double getDivisor() { return divisor; }
+    public double getMin() { return min; }
+    public double getMax() { return max; }
+
+    @Override
+    public String toString() {
+        return "weights " + Arrays.toString(getWeights()) + ", bonus " + bonus + ", penalty " + penalty
+            + ", divisor " + divisor + ", range [" + min + ", " + max + "]";
+    }
+}
@@ -0,0 +1,92 @@
+package hackathonsystem.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One TeamList's per-category scoring rules, and how judges' submissions are aggregated. A
+ * category without a configured rule is scored by its team type's default
+ * (ScoringRule.WEB_DEVELOPMENT or CYBERSECURITY), which is the historic behaviour. Category
+ * names match case-insensitively. Each TeamList owns an instance and hands it to its teams as
+ * they are added (see AbstractHackathonTeam.setScoringRules).
+ *
+ * The rules live in an immutable case-insensitive map that is replaced as a whole on every
+ * change, so lookups never lock or allocate. Each change to the rules or the aggregation method
+ * also bumps the generation, which invalidates the cached overall score of every team scored by
+ * these rules; callers must then rebuild anything ranked by score (see TeamList.setScoringRules).
+ */
+public final class ScoringRules {
+
+    private volatile Map<String, ScoringRule> rulesByCategory = Collections.emptyMap();
+    // How per-judge submissions are combined, for teams that have them
+    private volatile ScoreAggregation aggregation = ScoreAggregation.MEAN;
+    private volatile int generation;
+    // Per-judge corrections for these rules' teams
+    private final JudgeNormalization normalization = new JudgeNormalization(this);
+
+    public ScoringRule ruleFor(String category, ScoringRule fallback) {
+        if (category == null) {
+            return fallback;
+        }
+        ScoringRule rule = rulesByCategory.get(category);
+        return rule == null ? fallback : rule;
+    }
+
+    // Returns the rule configured for the category, or null if it uses its team type's default.
+    public ScoringRule getConfiguredRule(String category) {
+        return rulesByCategory.get(category);
+    }
+
+    // Sets (or with a null rule, clears) the category's rule.
+    public void setRule(String category, ScoringRule rule) {
+        setRules(Collections.singletonMap(category, rule));
+    }
+
+    // Applies several category rules as one change; null values clear a category's rule.
+    public synchronized void setRules(Map<String, ScoringRule> changes) {
+        Map<String, ScoringRule> next = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        next.putAll(rulesByCategory);
+        for (Map.Entry<String, ScoringRule> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                next.remove(change.getKey().trim());
+            } else {
+                next.put(change.getKey().trim(), change.getValue());
+            }
+        }
+        rulesByCategory = Collections.unmodifiableMap(next);
+        generation++;
+    }
+
+    public synchronized void clear() {
+        rulesByCategory = Collections.emptyMap();
+        generation++;
+    }
+
+    public ScoreAggregation getAggregation() {
+        return aggregation;
+    }
+
+    // Changes how every team's per-judge submissions are combined; the caller must then rescore.
+    public synchronized void setAggregation(ScoreAggregation method) {
+        if (method == null) {
+            throw new IllegalArgumentException("An aggregation method is required");
+        }
+        aggregation = method;
+        generation++;
+    }
+
+    public JudgeNormalization getNormalization() {
+        return normalization;
+    }
+
+    // Invalidates every cached overall score after another scoring input changed (see JudgeNormalization).
+    public synchronized void invalidateScores() {
+        generation++;
+    }
+
+    // Changes whenever any rule or the aggregation method changes.
+    public int getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,419 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.JudgeUser;
+import hackathonsystem.model.User;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded server that lets judges on other machines score teams held by this process.
+ * Speaks ScoringProtocol over TCP with one thread per connection; all operations go through
+ * a ScoringService, so concurrent judges get the same locking and logging as local ones.
+ *
+ * Each connection must LOGIN with a judge or organizer account from the AuthenticationManager
+ * before anything else, within LOGIN_TIMEOUT_MILLIS. At most MAX_CONNECTIONS connections are
+ * served at once; further ones are answered with ERR and closed. Judge submissions and work
+ * queues are those of the signed-in judge;
+ * a judge's name is never taken from a request. SCORE and BATCH from a judge are recorded as
+ * that judge's submissions, so they never discard other judges' scores; only organizers can
+ * overwrite a team's scores outright. Lines longer than ScoringProtocol.MAX_LINE_BYTES
+ * close the connection.
+ *
+ * Binds to localhost by default; pass a LAN address (or 0.0.0.0) to accept remote judges.
+ */
+public class ScoringServer implements Closeable {
+
+    // Roles that may sign in; staff edit team details, which the protocol does not offer
+    private static final List<String> ROLES = Arrays.asList("Judge", "Admin", "Organizer");
+    private static final int MAX_LOGIN_ATTEMPTS = 3;
+    // One thread per connection, so this also caps the server's threads
+    private static final int MAX_CONNECTIONS = 256;
+    // A connection that has not signed in by then is closed, so idle sockets cannot hold slots
+    private static final int LOGIN_TIMEOUT_MILLIS = 30_000;
+
+    private final ScoringService service;
+    private final AuthenticationManager authentication;
+    private final InetSocketAddress address;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor connectionThreads = new ThreadPoolExecutor(0, MAX_CONNECTIONS, 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), task -> {
+            Thread thread = new Thread(task, "scoring-connection-" + connectionCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private ServerSocket serverSocket;
+    private volatile boolean running;
+
+    public ScoringServer(ScoringService service, AuthenticationManager authentication, InetSocketAddress address) {
+        this.service = service;
+        this.authentication = authentication;
+        this.address = address;
+    }
+
+    public ScoringServer(ScoringService service, AuthenticationManager authentication, int port) {
+        this(service, authentication, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    // The account a connection signed in with, and how often it failed to
+    private static final class Session {
+        User user;
+        int failedLogins;
+        // Whether the login timeout has been lifted
+        boolean signedIn;
+
+        // The judge this session scores as, or null for organizers
+        String judgeName() {
+            return user instanceof JudgeUser ? ((JudgeUser) user).getJudgeName() : null;
+        }
+    }
+
+    // The line was longer than ScoringProtocol.MAX_LINE_BYTES; the connection is dropped.
+    private static final class LineTooLongException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        LineTooLongException() {
+            super("request line longer than " + ScoringProtocol.MAX_LINE_BYTES + " bytes");
+        }
+    }
+
+    /**
+     * Reads UTF-8 lines of at most ScoringProtocol.MAX_LINE_BYTES bytes, so a client that never
+     * sends a line break cannot make the server buffer without limit.
+     */
+    private static final class LineReader {
+        private final InputStream in;
+        private final byte[] buffer = new byte[8192];
+        private int position;
+        private int limit;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        // The next line without its terminator, or null at end of stream.
+        String readLine() throws IOException {
+            line.reset();
+            while (true) {
+                if (position == limit) {
+                    limit = in.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit < 0) {
+                        limit = 0;
+                        return line.size() == 0 ? null : decode();
+                    }
+                }
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                if (line.size() + position - start > ScoringProtocol.MAX_LINE_BYTES) {
+                    throw new LineTooLongException();
+                }
+                line.write(buffer, start, position - start);
+                if (position < limit) {
+                    position++;
+                    return decode();
+                }
+            }
+        }
+
+        private String decode() {
+            String text = new String(line.toByteArray(), StandardCharsets.UTF_8);
+            return text.endsWith("\r") ? text.substring(0, text.length() - 1) : text;
+        }
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(address, 256);
+        running = true;
+        Thread acceptThread = new Thread(this::acceptLoop, "scoring-server-accept");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        System.out.println("--- Scoring server listening on " + serverSocket.getLocalSocketAddress() + " ---");
+    }
+
+    // The bound port, useful when the server was started on port 0.
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(LOGIN_TIMEOUT_MILLIS);
+                connections.add(socket);
+                try {
+                    connectionThreads.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    refuse(socket);
+                }
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("Error: scoring server failed to accept a connection. Details: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // Every connection slot is taken: tell the client and close without reading its requests.
+    private void refuse(Socket socket) {
+        try (socket) {
+            socket.getOutputStream().write(("ERR server busy, at most " + MAX_CONNECTIONS + " connections\n").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Client already gone
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            LineReader in = new LineReader(socket.getInputStream());
+            Session session = new Session();
+            try {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.equals("QUIT")) {
+                        break;
+                    }
+                    String response;
+                    try {
+                        response = handle(line, in, session);
+                    } catch (IllegalArgumentException e) {
+                        response = "ERR " + ScoringProtocol.escape(String.valueOf(e.getMessage()));
+                    }
+                    if (session.user != null && !session.signedIn) {
+                        // Signed in judges may stay idle between submissions
+                        socket.setSoTimeout(0);
+                        session.signedIn = true;
+                    }
+                    out.write(response);
+                    out.write('\n');
+                    out.flush();
+                    if (session.failedLogins >= MAX_LOGIN_ATTEMPTS) {
+                        break;
+                    }
+                }
+            } catch (LineTooLongException e) {
+                out.write("ERR " + e.getMessage() + "\n");
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // Client went away
+        } catch (SocketTimeoutException e) {
+            // Did not sign in within LOGIN_TIMEOUT_MILLIS
+        } catch (IOException e) {
+            System.err.println("Error: scoring connection failed. Details: " + e.getMessage());
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private String handle(String line, LineReader in, Session session) throws IOException {
+        String[] parts = line.trim().split(" ");
+        if (parts[0].equals("PING")) {
+            return "OK";
+        }
+        if (parts[0].equals("LOGIN")) {
+            return login(line, session);
+        }
+        if (session.user == null) {
+            throw new IllegalArgumentException("login required");
+        }
+        switch (parts[0]) {
+            case "FIND":
+                return formatTeam(service.findTeam(parseInt(parts, 1)));
+            case "SCORE": {
+                String judge = session.judgeName();
+                int teamNumber = parseInt(parts, 1);
+                int[] scores = parseScores(parts, 2);
+                boolean applied = judge == null
+                    ? service.updateTeamScores(teamNumber, scores)
+                    : service.submitJudgeScores(judge, teamNumber, scores);
+                return applied ? "OK 1" : "OK 0";
+            }
+            case "JSCORE":
+                return service.submitJudgeScores(sessionJudge(session), parseInt(parts, 1), parseScores(parts, 2)) ? "OK 1" : "OK 0";
+            case "BATCH": {
+                int count = parseCount(parts);
+                int[] teamNumbers = new int[count];
+                int[][] scores = new int[count][];
+                for (int i = 0; i < count; i++) {
+                    String submission = in.readLine();
+                    if (submission == null) {
+                        throw new IOException("connection closed inside BATCH");
+                    }
+                    // A malformed submission is rejected on its own; the rest of the batch still applies
+                    try {
+                        String[] fields = submission.trim().split(" ");
+                        teamNumbers[i] = parseInt(fields, 0);
+                        scores[i] = parseScores(fields, 1);
+                    } catch (IllegalArgumentException e) {
+                        teamNumbers[i] = -1;
+                    }
+                }
+                String judge = session.judgeName();
+                boolean[] applied = judge == null
+                    ? service.updateTeamScores(teamNumbers, scores)
+                    : service.submitJudgeScores(judge, teamNumbers, scores);
+                StringBuilder sb = new StringBuilder(count + 3).append("OK ");
+                for (boolean ok : applied) {
+                    sb.append(ok ? '1' : '0');
+                }
+                return sb.toString();
+            }
+            case "TOP": {
+                List<ScoringService.LeaderboardEntry> top = service.getLeaderboard(parseCount(parts));
+                StringBuilder sb = new StringBuilder("OK ").append(top.size());
+                for (ScoringService.LeaderboardEntry entry : top) {
+                    sb.append('\n').append(entry.getRank()).append(' ').append(entry.getTeamNumber())
+                      .append(' ').append(entry.getOverallScore())
+                      .append(' ').append(ScoringProtocol.escape(entry.getTeamName()));
+                }
+                return sb.toString();
+            }
+            case "JUDGES": {
+                // The judges this session scores as: its own judge, or none for organizers
+                String sessionJudge = session.judgeName();
+                List<String> judges = sessionJudge == null ? Collections.emptyList() : Collections.singletonList(sessionJudge);
+                StringBuilder sb = new StringBuilder("OK ").append(judges.size());
+                for (String judge : judges) {
+                    sb.append('\n').append(ScoringProtocol.escape(judge));
+                }
+                return sb.toString();
+            }
+            case "SEARCH": {
+                // The query is the rest of the line and may contain spaces
+                int count = parseCount(parts);
+                String[] fields = line.trim().split(" ", 3);
+                String query = fields.length > 2 ? ScoringProtocol.unescape(fields[2]) : "";
+                List<ScoringService.TeamSummary> matches = service.searchTeams(query, count);
+                StringBuilder sb = new StringBuilder("OK ").append(matches.size());
+                for (ScoringService.TeamSummary match : matches) {
+                    sb.append('\n').append(match.getTeamNumber())
+                      .append(' ').append(ScoringProtocol.escape(match.getTeamName()))
+                      .append('\t').append(ScoringProtocol.escape(match.getUniversity()))
+                      .append('\t').append(ScoringProtocol.escape(match.getCategory()));
+                }
+                return sb.toString();
+            }
+            case "NEXT":
+                return formatTeam(service.nextTeamForJudge(sessionJudge(session)));
+            case "REPORT":
+                service.generateReport();
+                return "OK";
+            default:
+                throw new IllegalArgumentException("unknown command " + parts[0]);
+        }
+    }
+
+    // LOGIN user password, where the password is the rest of the line and may contain spaces.
+    private String login(String line, Session session) {
+        if (session.user != null) {
+            throw new IllegalArgumentException("already logged in");
+        }
+        String[] fields = line.split(" ", 3);
+        User user = fields.length < 3 ? null
+            : authentication.attemptLogin(ScoringProtocol.unescape(fields[1]), ScoringProtocol.unescape(fields[2]));
+        if (user == null || !ROLES.contains(user.getRole())) {
+            session.failedLogins++;
+            throw new IllegalArgumentException(user == null ? "invalid username or password" : "role " + user.getRole() + " cannot score");
+        }
+        session.user = user;
+        String judge = session.judgeName();
+        return "OK " + user.getRole() + (judge == null ? "" : " " + ScoringProtocol.escape(judge));
+    }
+
+    private static String sessionJudge(Session session) {
+        String judge = session.judgeName();
+        if (judge == null) {
+            throw new IllegalArgumentException("only a judge account has judge submissions");
+        }
+        return judge;
+    }
+
+    // OK id s1 s2 s3 s4 s5 details, or NOTFOUND for null
+    private static String formatTeam(ScoringService.TeamDetails team) {
+        if (team == null) {
+            return "NOTFOUND";
+        }
+        StringBuilder sb = new StringBuilder("OK ").append(team.getTeamNumber());
+        for (int score : team.getScores()) {
+            sb.append(' ').append(score);
+        }
+        return sb.append(' ').append(ScoringProtocol.escape(team.getFullDetails())).toString();
+    }
+
+    private static int parseInt(String[] parts, int index) {
+        if (index >= parts.length) {
+            throw new IllegalArgumentException("missing argument");
+        }
+        try {
+            return Integer.parseInt(parts[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("not a number: " + parts[index]);
+        }
+    }
+
+    private static int[] parseScores(String[] parts, int from) {
+        int[] scores = new int[5];
+        for (int i = 0; i < 5; i++) {
+            scores[i] = parseInt(parts, from + i);
+        }
+        return scores;
+    }
+
+    private static int parseCount(String[] parts) {
+        int count = parseInt(parts, 1);
+        if (count < 0 || count > ScoringProtocol.MAX_ITEMS) {
+            throw new IllegalArgumentException("count must be 0-" + ScoringProtocol.MAX_ITEMS);
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        serverSocket.close();
+        for (Socket socket : connections) {
+            socket.close();
+        }
+        connectionThreads.shutdownNow();
+    }
+}
@@ -0,0 +1,100 @@
+package hackathonsystem.controller;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The judging operations a scoring client needs. LocalScoringService runs them against the
+ * in-process HackathonManager; ScoringClient runs them against a ScoringServer over the network.
+ */
+public interface ScoringService {
+
+    // What a judge sees for one team.
+    class TeamDetails {
+        private final int teamNumber;
+        private final String fullDetails;
+        private final int[] scores;
+
+        public TeamDetails(int teamNumber, String fullDetails, int[] scores) {
+            this.teamNumber = teamNumber;
+            this.fullDetails = fullDetails;
+            this.scores = scores.clone();
+        }
+
+        public int getTeamNumber() { return teamNumber; }
+        public String getFullDetails() { return fullDetails; }
+        public int[] getScores() { return scores.clone(); }
+    }
+
+    // One leaderboard row.
+    class LeaderboardEntry {
+        private final int rank;
+        private final int teamNumber;
+        private final String teamName;
+        private final double overallScore;
+
+        public LeaderboardEntry(int rank, int teamNumber, String teamName, double overallScore) {
+            this.rank = rank;
+            this.teamNumber = teamNumber;
+            this.teamName = teamName;
+            this.overallScore = overallScore;
+        }
+
+        public int getRank() { return rank; }
+        public int getTeamNumber() { return teamNumber; }
+        public String getTeamName() { return teamName; }
+        public double getOverallScore() { return overallScore; }
+    }
+
+    // One type-ahead search result.
+    class TeamSummary {
+        private final int teamNumber;
+        private final String teamName;
+        private final String university;
+        private final String category;
+
+        public TeamSummary(int teamNumber, String teamName, String university, String category) {
+            this.teamNumber = teamNumber;
+            this.teamName = teamName;
+            this.university = university;
+            this.category = category;
+        }
+
+        public int getTeamNumber() { return teamNumber; }
+        public String getTeamName() { return teamName; }
+        public String getUniversity() { return university; }
+        public String getCategory() { return category; }
+
+        @Override
+        public String toString() {
+            return teamNumber + " - " + teamName + " (" + university + ", " + category + ")";
+        }
+    }
+
+    // Returns null if there is no such team.
+    TeamDetails findTeam(int teamNumber) throws IOException;
+
+    // Up to limit teams whose name, university or category matches the typed text, best first.
+    List<TeamSummary> searchTeams(String query, int limit) throws IOException;
+
+    boolean updateTeamScores(int teamNumber, int[] scores) throws IOException;
+
+    // Submits several score updates at once; the result says which were applied.
+    boolean[] updateTeamScores(int[] teamNumbers, int[][] scores) throws IOException;
+
+    // Records one judge's scores for a team; the team's scores become the aggregate of its judges'.
+    boolean submitJudgeScores(String judgeName, int teamNumber, int[] scores) throws IOException;
+
+    // Records several of one judge's submissions at once; the result says which were applied.
+    boolean[] submitJudgeScores(String judgeName, int[] teamNumbers, int[][] scores) throws IOException;
+
+    List<LeaderboardEntry> getLeaderboard(int count) throws IOException;
+
+    List<String> getJudges() throws IOException;
+
+    // The team the judge should score next (unscored first, then least recently updated); null if none.
+    TeamDetails nextTeamForJudge(String judgeName) throws IOException;
+
+    // Writes the report file on the machine that holds the data.
+    void generateReport() throws IOException;
+}
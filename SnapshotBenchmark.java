@@ -0,0 +1,154 @@
+package hackathonsystem.benchmark;
+
+import hackathonsystem.controller.TeamCsvParser;
+import hackathonsystem.controller.TeamList;
+import hackathonsystem.controller.TeamSnapshot;
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.RegisteredTeam;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a cold start from HackathonTeams.csv with a cold start from a binary snapshot,
+ * and checks that a snapshot round trip reproduces the TeamList exactly and that a snapshot
+ * of another version is rejected. Exits with status 1 if either check fails.
+ *
+ * Usage: java hackathonsystem.benchmark.SnapshotBenchmark [rows] [iterations]
+ */
+public class SnapshotBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Path csv = Files.createTempFile("hackathon-bench", ".csv");
+        Path snapshot = Files.createTempFile("hackathon-bench", ".snapshot");
+        boolean passed;
+        try {
+            CsvLoadBenchmark.writeSyntheticCsv(csv, rows, 42);
+            TeamList original = loadCsv(csv);
+            decorate(original);
+            TeamSnapshot.write(snapshot, original);
+            System.out.printf("%,d teams: CSV %,d bytes, snapshot %,d bytes%n", rows, Files.size(csv), Files.size(snapshot));
+
+            TeamList restored = new TeamList();
+            TeamSnapshot.read(snapshot, restored);
+            boolean roundTrip = sameState(original, restored);
+            System.out.println("Round trip " + (roundTrip ? "OK" : "MISMATCH"));
+            boolean rejected = rejectsOtherVersion(snapshot);
+            System.out.println("Other snapshot version " + (rejected ? "rejected" : "ACCEPTED"));
+            passed = roundTrip && rejected;
+
+            for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                loadCsv(csv);
+                long csvMs = (System.nanoTime() - start) / 1_000_000;
+
+                start = System.nanoTime();
+                TeamSnapshot.read(snapshot, new TeamList());
+                long snapshotMs = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("run %d: CSV %6d ms | snapshot %6d ms%n", i + 1, csvMs, snapshotMs);
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(snapshot);
+        }
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    // Bumps the version field after the magic number; reading must then fail.
+    private static boolean rejectsOtherVersion(Path snapshot) throws IOException {
+        byte[] data = Files.readAllBytes(snapshot);
+        ByteBuffer header = ByteBuffer.wrap(data);
+        header.putShort(4, (short) (header.getShort(4) + 1));
+        Path other = Files.createTempFile("hackathon-bench", ".snapshot");
+        try {
+            Files.write(other, data);
+            TeamSnapshot.read(other, new TeamList());
+            return false;
+        } catch (IOException e) {
+            return true;
+        } finally {
+            Files.deleteIfExists(other);
+        }
+    }
+
+    private static TeamList loadCsv(Path csv) throws IOException {
+        TeamList teamList = new TeamList();
+        TeamCsvParser.parseFileParallel(csv, new TeamCsvParser.Sink() {
+            @Override
+            public void team(int lineNumber, AbstractHackathonTeam team) {
+                teamList.addTeam(team);
+            }
+
+            @Override
+            public void error(int lineNumber, String message) {
+            }
+        });
+        return teamList;
+    }
+
+    // Adds the state a CSV cannot carry: disqualifications, judges, judge scores and live registrations.
+    private static void decorate(TeamList teamList) {
+        List<AbstractHackathonTeam> teams = teamList.getAllTeams();
+        List<String> judges = teamList.getAvailableJudges();
+        for (int i = 0; i < teams.size(); i += 7) {
+            AbstractHackathonTeam team = teams.get(i);
+            teamList.assignJudgeToTeam(team.getTeamNumber(), judges.get(i % judges.size()));
+            if (i % 13 == 0) {
+                teamList.updateTeam(team, t -> t.setEligibility(false));
+            }
+            if (i % 11 == 0) {
+                String judge = judges.get(i % judges.size());
+                teamList.updateTeam(team, t -> t.submitJudgeScores(judge, new int[]{1, 2, 3, 4, 5}));
+            }
+        }
+        teamList.addCategory("Quantum Computing");
+        teamList.addTeam(new RegisteredTeam(teamList.getNextTeamId(), "Late Entry", "Quantum Computing", "SEGI",
+            false, "PATRICK", new int[]{0, 0, 0, 0, 0}, new String[]{"Tanu", "Sha"}));
+    }
+
+    private static boolean sameState(TeamList a, TeamList b) {
+        if (a.getNextTeamId() != b.getNextTeamId()
+                || !a.getAvailableCategories().equals(b.getAvailableCategories())
+                || !a.getAvailableJudges().equals(b.getAvailableJudges())
+                || !a.getJudgeAssignments().equals(b.getJudgeAssignments())
+                || a.getTeamCount() != b.getTeamCount()) {
+            return false;
+        }
+        List<AbstractHackathonTeam> teamsA = a.getAllTeams();
+        List<AbstractHackathonTeam> teamsB = b.getAllTeams();
+        for (int i = 0; i < teamsA.size(); i++) {
+            AbstractHackathonTeam x = teamsA.get(i);
+            AbstractHackathonTeam y = teamsB.get(i);
+            if (x.getClass() != y.getClass()
+                    || !x.getFullDetails().equals(y.getFullDetails())
+                    || !Arrays.equals(x.getScores(), y.getScores())
+                    || !sameJudgeScores(x, y)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameJudgeScores(AbstractHackathonTeam x, AbstractHackathonTeam y) {
+        Map<String, int[]> a = x.getJudgeScores();
+        Map<String, int[]> b = y.getJudgeScores();
+        if (!a.keySet().equals(b.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, int[]> entry : a.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), b.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package hackathonsystem.view;
 
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.LocalScoringService;
+import hackathonsystem.controller.TeamChangeEvent;
 import hackathonsystem.model.AbstractHackathonTeam;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -10,7 +12,13 @@ import javax.swing.border.TitledBorder;
 
 public class StaffGUIView extends JFrame {
     private final HackathonManager manager;
+    // Writes reports and looks up type-ahead suggestions off the EDT
+    private final BackgroundDataService dataService = new BackgroundDataService();
+    // Keeps the displayed team's details current when others change it
+    private final TeamChangeCoalescer changeListener = new TeamChangeCoalescer(this::teamsChanged);
+    private int displayedTeamNumber = -1;
     private JTextField teamNumberSearch, nameField, universityField;
+    private TeamSuggestionPopup teamSuggestions;
     private JTextArea teamDetailsArea;
     private JButton searchButton, updateDetailsButton, disqualifyButton, generateReportButton; 
 
@@ -31,6 +39,7 @@ public class StaffGUIView extends JFrame {
         
         initComponents();
         setLayoutComponents();
+        manager.addTeamChangeListener(changeListener);
     }
     
     private JButton createStyledButton(String text, Color background) {
@@ -45,8 +54,10 @@ public class StaffGUIView extends JFrame {
     }
     
     private void initComponents() {
-        teamNumberSearch = new JTextField(8);
+        teamNumberSearch = new JTextField(14);
         teamNumberSearch.setHorizontalAlignment(JTextField.CENTER);
+        teamSuggestions = new TeamSuggestionPopup(teamNumberSearch, dataService,
+            new LocalScoringService(manager)::searchTeams, this::searchTeam);
         
         nameField = new JTextField(20);
         universityField = new JTextField(20);
@@ -90,7 +101,7 @@ public class StaffGUIView extends JFrame {
             TitledBorder.CENTER, TitledBorder.TOP, HEADER_FONT, PRIMARY_COLOR.darker()
         ));
         
-        JLabel searchLabel = new JLabel("Enter Team ID:");
+        JLabel searchLabel = new JLabel("Enter Team ID or Name:");
         searchLabel.setFont(LABEL_FONT.deriveFont(Font.BOLD));
         searchPanel.add(searchLabel);
         searchPanel.add(teamNumberSearch);
@@ -149,15 +160,23 @@ public class StaffGUIView extends JFrame {
     }
 
     private void searchTeam() {
+        String text = teamNumberSearch.getText().trim();
+        if (!text.isEmpty() && !text.chars().allMatch(Character::isDigit)) {
+            // A name, university or category: show the best match
+            teamSuggestions.pickBestMatch();
+            return;
+        }
         try {
-            int teamNum = Integer.parseInt(teamNumberSearch.getText().trim());
+            int teamNum = Integer.parseInt(text);
             AbstractHackathonTeam team = manager.getTeamList().findTeamByNumber(teamNum);
             
             if (team != null) {
+                displayedTeamNumber = teamNum;
                 teamDetailsArea.setText(team.getFullDetails());
                 nameField.setText(team.getTeamName());
                 universityField.setText(team.getUniversity());
             } else {
+                displayedTeamNumber = -1;
                 teamDetailsArea.setText("Team not found for ID: " + teamNum);
                 nameField.setText(""); universityField.setText("");
             }
@@ -216,8 +235,35 @@ public class StaffGUIView extends JFrame {
     }
     
     private void generateReport() {
-        manager.generateReportAndWriteToFile();
-        JOptionPane.showMessageDialog(this, "Report generated successfully. Check HackathonReport.txt", "Report Success", JOptionPane.INFORMATION_MESSAGE);
+        generateReportButton.setEnabled(false);
+        dataService.submitWrite("report", () -> {
+            manager.generateReportAndWriteToFile();
+            return null;
+        }, ignored -> {
+            generateReportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Report generated successfully. Check HackathonReport.txt", "Report Success", JOptionPane.INFORMATION_MESSAGE);
+        }, e -> {
+            generateReportButton.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Report generation failed: " + e.getMessage(), "Report Failed", JOptionPane.ERROR_MESSAGE);
+        });
+    }
+
+    // Refreshes only the details text, leaving any input the user is typing untouched.
+    private void teamsChanged(TeamChangeCoalescer.Batch batch) {
+        if (displayedTeamNumber < 0 || !(batch.getTeamNumbers().contains(displayedTeamNumber)
+                || batch.contains(TeamChangeEvent.Type.SCORING_RULES_CHANGED))) {
+            return;
+        }
+        AbstractHackathonTeam team = manager.getTeamList().findTeamByNumber(displayedTeamNumber);
+        teamDetailsArea.setText(team != null ? team.getFullDetails() : "Team not found for ID: " + displayedTeamNumber);
+    }
+
+    @Override
+    public void dispose() {
+        manager.removeTeamChangeListener(changeListener);
+        changeListener.stop();
+        dataService.cancelAll();
+        super.dispose();
     }
 
 }
@@ -0,0 +1,99 @@
+package hackathonsystem.view;
+
+import hackathonsystem.controller.TeamChangeEvent;
+import hackathonsystem.controller.TeamChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Bridges HackathonManager change events to a Swing view. Events may arrive on any thread;
+ * they are queued and delivered to the view on the EDT at most once per frame (about 16 ms)
+ * as a single Batch, so a burst of thousands of score updates costs one view refresh.
+ */
+public class TeamChangeCoalescer implements TeamChangeListener {
+
+    private static final int FRAME_MILLIS = 16;
+
+    /**
+     * The changes of one frame: which teams were affected and what kinds of change happened.
+     */
+    public static class Batch {
+        private final Set<Integer> teamNumbers = new LinkedHashSet<>();
+        private final Set<TeamChangeEvent.Type> types = EnumSet.noneOf(TeamChangeEvent.Type.class);
+        private boolean structural;
+        private boolean affectsRanking;
+
+        private void add(TeamChangeEvent event) {
+            if (event.getTeamNumber() != TeamChangeEvent.NO_TEAM) {
+                teamNumbers.add(event.getTeamNumber());
+            }
+            types.add(event.getType());
+            structural |= event.isStructural();
+            affectsRanking |= event.affectsRanking();
+        }
+
+        public Set<Integer> getTeamNumbers() { return Collections.unmodifiableSet(teamNumbers); }
+        public boolean contains(TeamChangeEvent.Type type) { return types.contains(type); }
+        // Teams were added or removed, so row counts changed.
+        public boolean isStructural() { return structural; }
+        // Some team may have moved in the score ranking.
+        public boolean affectsRanking() { return affectsRanking; }
+    }
+
+    private final Consumer<Batch> view;
+    private final Timer frameTimer;
+    private final AtomicBoolean frameScheduled = new AtomicBoolean();
+    private final List<TeamChangeEvent> pending = new ArrayList<>();
+
+    // The view callback runs on the EDT.
+    public TeamChangeCoalescer(Consumer<Batch> view) {
+        this.view = view;
+        this.frameTimer = new Timer(FRAME_MILLIS, e -> deliver());
+        this.frameTimer.setRepeats(false);
+    }
+
+    @Override
+    public void teamChanged(TeamChangeEvent event) {
+        synchronized (pending) {
+            pending.add(event);
+        }
+        // The first event of a frame schedules its delivery; later ones just queue
+        if (frameScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(frameTimer::restart);
+        }
+    }
+
+    // Stops any pending delivery, e.g. when the view is closed.
+    public void stop() {
+        frameTimer.stop();
+        synchronized (pending) {
+            pending.clear();
+        }
+    }
+
+    private void deliver() {
+        // Reset first, so events arriving while the view updates schedule the next frame
+        frameScheduled.set(false);
+        List<TeamChangeEvent> events;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            events = new ArrayList<>(pending);
+            pending.clear();
+        }
+        Batch batch = new Batch();
+        for (TeamChangeEvent event : events) {
+            batch.add(event);
+        }
+        view.accept(batch);
+    }
+}
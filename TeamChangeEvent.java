@@ -0,0 +1,53 @@
+package hackathonsystem.controller;
+
+/**
+ * Describes one change made through HackathonManager. Events are delivered on the thread that
+ * made the change, after the change is applied and logged.
+ */
+public class TeamChangeEvent {
+
+    public enum Type {
+        TEAM_ADDED,
+        TEAM_REMOVED,
+        SCORES_UPDATED,
+        DETAILS_UPDATED,
+        CATEGORY_CHANGED,
+        DISQUALIFIED,
+        REINSTATED,
+        JUDGE_ASSIGNED,
+        // The list of available categories changed; not tied to a team
+        CATEGORIES_EDITED,
+        // A category's scoring rule changed, so any team's overall score may have; not tied to a team
+        SCORING_RULES_CHANGED
+    }
+
+    // Team number used for events that are not about a single team
+    public static final int NO_TEAM = -1;
+
+    private final Type type;
+    private final int teamNumber;
+
+    public TeamChangeEvent(Type type, int teamNumber) {
+        this.type = type;
+        this.teamNumber = teamNumber;
+    }
+
+    public Type getType() { return type; }
+    public int getTeamNumber() { return teamNumber; }
+
+    // True if the event adds or removes a team, i.e. row counts change.
+    public boolean isStructural() {
+        return type == Type.TEAM_ADDED || type == Type.TEAM_REMOVED;
+    }
+
+    // True if the event can move the team within the score ranking.
+    public boolean affectsRanking() {
+        return isStructural() || type == Type.SCORES_UPDATED || type == Type.CATEGORY_CHANGED
+            || type == Type.DISQUALIFIED || type == Type.REINSTATED || type == Type.SCORING_RULES_CHANGED;
+    }
+
+    @Override
+    public String toString() {
+        return type + (teamNumber == NO_TEAM ? "" : "(" + teamNumber + ")");
+    }
+}
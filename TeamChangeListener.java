@@ -0,0 +1,9 @@
+package hackathonsystem.controller;
+
+/**
+ * Receives change events from HackathonManager. Called on the thread that made the change,
+ * so implementations must be quick and thread-safe; Swing views should use TeamChangeCoalescer.
+ */
+public interface TeamChangeListener {
+    void teamChanged(TeamChangeEvent event);
+}
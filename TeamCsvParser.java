@@ -0,0 +1,481 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.WebDevTeam;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Streaming tokenizer for HackathonTeams.csv. Works directly on the bytes of a memory-mapped
+ * file: fields are located by offset, integers are parsed without creating strings, and only
+ * the name, university and category columns are decoded. The raw line text is only decoded
+ * when a line has to be reported as an error.
+ *
+ * Quoted fields may contain commas and doubled quotes (""), but not line breaks.
+ */
+public class TeamCsvParser {
+
+    // Receives parsed teams and per-line errors in file order.
+    public interface Sink {
+        void team(int lineNumber, AbstractHackathonTeam team);
+        void error(int lineNumber, String message);
+    }
+
+    private static final int FIELD_COUNT = 10;
+    private static final int MAX_FIELDS = 32;
+    // Files larger than this are mapped in several windows, each ending on a line boundary
+    private static final long MAP_WINDOW = 256L * 1024 * 1024;
+    // Smallest chunk handed to a worker by parseFileParallel
+    private static final int MIN_CHUNK = 1024 * 1024;
+    private static final byte[] HEADER_PREFIX = "Team ID".getBytes(StandardCharsets.US_ASCII);
+
+    private final int[] fieldStart = new int[MAX_FIELDS];
+    private final int[] fieldEnd = new int[MAX_FIELDS];
+    private final boolean[] fieldQuoted = new boolean[MAX_FIELDS];
+    private byte[] scratch = new byte[256];
+    // University and category values repeat on almost every line, so their strings are shared
+    private final StringTable universities = new StringTable();
+    private final StringTable categories = new StringTable();
+
+    /**
+     * Parses a whole file and returns the number of teams delivered to the sink.
+     */
+    public int parseFile(Path path, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            int lineNumber = 1;
+            int teams = 0;
+            while (position < size) {
+                long length = Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int start = position == 0 ? skipBom(buffer, 0, (int) length) : 0;
+                int end = (int) length;
+                if (position + length < size) {
+                    end = lastLineEnd(buffer, end);
+                    if (end <= start) {
+                        throw new IOException("Line " + lineNumber + " is longer than the mapping window");
+                    }
+                }
+                int[] result = parse(buffer, start, end, lineNumber, sink);
+                teams += result[0];
+                lineNumber = result[1];
+                position += end;
+            }
+            return teams;
+        }
+    }
+
+    /**
+     * Parses a whole file on the common fork-join pool. Each mapping window is cut into chunks
+     * at line boundaries, the chunks are parsed in parallel, and the results are then delivered
+     * to the sink in file order with the same line numbers the sequential path reports.
+     */
+    public static int parseFileParallel(Path path, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            int lineNumber = 1;
+            int teams = 0;
+            while (position < size) {
+                long length = Math.min(MAP_WINDOW, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int start = position == 0 ? skipBom(buffer, 0, (int) length) : 0;
+                int end = (int) length;
+                if (position + length < size) {
+                    end = lastLineEnd(buffer, end);
+                    if (end <= start) {
+                        throw new IOException("Line " + lineNumber + " is longer than the mapping window");
+                    }
+                }
+                int[] bounds = chunkBounds(buffer, start, end);
+                List<Chunk> chunks = IntStream.range(0, bounds.length - 1)
+                    .parallel()
+                    .mapToObj(i -> Chunk.parse(buffer, bounds[i], bounds[i + 1]))
+                    .collect(Collectors.toList());
+                for (Chunk chunk : chunks) {
+                    teams += chunk.deliver(sink, lineNumber - 1);
+                    lineNumber += chunk.lineCount;
+                }
+                position += end;
+            }
+            return teams;
+        }
+    }
+
+    // Splits [start, end) into roughly equal chunks, each ending just after a '\n'.
+    private static int[] chunkBounds(ByteBuffer data, int start, int end) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism() + 1;
+        int target = Math.max(MIN_CHUNK, (end - start) / (parallelism * 4) + 1);
+        int[] bounds = new int[16];
+        int count = 0;
+        bounds[count++] = start;
+        int pos = start;
+        while (pos < end) {
+            int next = pos + target;
+            if (next >= end) {
+                next = end;
+            } else {
+                while (next < end && data.get(next - 1) != '\n') {
+                    next++;
+                }
+            }
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+            }
+            bounds[count++] = next;
+            pos = next;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Results of one parallel chunk, with line numbers relative to the chunk start.
+     */
+    private static final class Chunk implements Sink {
+        private final List<AbstractHackathonTeam> teams = new ArrayList<>();
+        private int[] teamLines = new int[64];
+        private final List<String> errors = new ArrayList<>();
+        private int[] errorLines = new int[4];
+        private int lineCount;
+
+        static Chunk parse(ByteBuffer buffer, int start, int end) {
+            Chunk chunk = new Chunk();
+            int[] result = new TeamCsvParser().parse(buffer.duplicate(), start, end, 1, chunk);
+            chunk.lineCount = result[1] - 1;
+            return chunk;
+        }
+
+        @Override
+        public void team(int lineNumber, AbstractHackathonTeam team) {
+            if (teams.size() == teamLines.length) {
+                teamLines = Arrays.copyOf(teamLines, teamLines.length * 2);
+            }
+            teamLines[teams.size()] = lineNumber;
+            teams.add(team);
+        }
+
+        @Override
+        public void error(int lineNumber, String message) {
+            if (errors.size() == errorLines.length) {
+                errorLines = Arrays.copyOf(errorLines, errorLines.length * 2);
+            }
+            errorLines[errors.size()] = lineNumber;
+            errors.add(message);
+        }
+
+        // Replays teams and errors to the sink interleaved in line order.
+        int deliver(Sink sink, int lineOffset) {
+            int t = 0;
+            int e = 0;
+            while (t < teams.size() || e < errors.size()) {
+                if (e >= errors.size() || (t < teams.size() && teamLines[t] < errorLines[e])) {
+                    sink.team(teamLines[t] + lineOffset, teams.get(t));
+                    t++;
+                } else {
+                    sink.error(errorLines[e] + lineOffset, errors.get(e));
+                    e++;
+                }
+            }
+            return teams.size();
+        }
+    }
+
+    /**
+     * Parses the complete lines in data[start, end). Returns {teams parsed, next line number}.
+     */
+    public int[] parse(ByteBuffer data, int start, int end, int firstLineNumber, Sink sink) {
+        int lineNumber = firstLineNumber;
+        int teams = 0;
+        int pos = start;
+        while (pos < end) {
+            int lineStart = pos;
+            int fields = 0;
+            boolean inQuotes = false;
+            fieldStart[0] = pos;
+            fieldQuoted[0] = false;
+            // Tokenize one line into field offsets
+            while (pos < end) {
+                byte b = data.get(pos);
+                if (inQuotes) {
+                    if (b == '"') {
+                        if (pos + 1 < end && data.get(pos + 1) == '"') {
+                            pos++;
+                        } else {
+                            inQuotes = false;
+                        }
+                    } else if (b == '\n') {
+                        break;
+                    }
+                } else if (b == '"' && fields < MAX_FIELDS && pos == fieldStart[fields]) {
+                    inQuotes = true;
+                    fieldQuoted[fields] = true;
+                } else if (b == ',' || b == '\n') {
+                    if (fields < MAX_FIELDS) {
+                        fieldEnd[fields] = pos;
+                    }
+                    fields++;
+                    if (b == '\n') {
+                        break;
+                    }
+                    if (fields < MAX_FIELDS) {
+                        fieldStart[fields] = pos + 1;
+                        fieldQuoted[fields] = false;
+                    }
+                }
+                pos++;
+            }
+            int lineEnd = pos;
+            if (pos >= end) {
+                // Last line without a trailing newline
+                if (fields < MAX_FIELDS) {
+                    fieldEnd[fields] = end;
+                }
+                fields++;
+            } else {
+                pos++; // consume '\n'
+            }
+            if (inQuotes) {
+                sink.error(lineNumber, "Unterminated quoted field in line: " + lineText(data, lineStart, lineEnd));
+            } else if (!isBlank(data, lineStart, lineEnd) && !startsWith(data, lineStart, lineEnd, HEADER_PREFIX)) {
+                if (parseLine(data, lineStart, lineEnd, Math.min(fields, MAX_FIELDS), lineNumber, sink)) {
+                    teams++;
+                }
+            }
+            lineNumber++;
+        }
+        return new int[]{teams, lineNumber};
+    }
+
+    private boolean parseLine(ByteBuffer data, int lineStart, int lineEnd, int fields, int lineNumber, Sink sink) {
+        if (fields < FIELD_COUNT) {
+            sink.error(lineNumber, "Skipping line due to insufficient fields (< " + FIELD_COUNT + "): " + lineText(data, lineStart, lineEnd));
+            return false;
+        }
+        try {
+            int teamNumber = parseInt(data, 0);
+            int[] scores = new int[5];
+            for (int i = 0; i < 5; i++) {
+                scores[i] = parseInt(data, 5 + i);
+            }
+            String teamName = decode(data, 1, null);
+            String university = decode(data, 2, universities);
+            String category = decode(data, 3, categories);
+            sink.team(lineNumber, createTeam(teamNumber, teamName, university, category, scores));
+            return true;
+        } catch (NumberFormatException e) {
+            sink.error(lineNumber, "Error parsing number field in line: " + lineText(data, lineStart, lineEnd));
+        } catch (Exception e) {
+            sink.error(lineNumber, "General error processing line: " + lineText(data, lineStart, lineEnd) + ". Details: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Builds the team object for one CSV row, deriving initials and the unique attribute
+     * from the team name and category.
+     */
+    public static AbstractHackathonTeam createTeam(int teamNumber, String teamName, String university, String category, int[] scores) {
+        boolean eligibility = true;
+        String initials = initials(teamName);
+
+        // Simple Unique Attribute Logic (based on team name content)
+        boolean wdAttribute = containsIgnoreCase(teamName, "web") || containsIgnoreCase(category, "web") || containsIgnoreCase(teamName, "dev");
+
+        if (category.equalsIgnoreCase("Web Development")) {
+            return new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, wdAttribute);
+        }
+        // Cybersecurity and unknown categories use the WebDevTeam scoring fallback without a bonus
+        return new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, false);
+    }
+
+    static String initials(String teamName) {
+        int lastSpace = teamName.lastIndexOf(' ');
+        if (lastSpace >= 0) {
+            return new String(new char[]{
+                Character.toUpperCase(teamName.charAt(0)),
+                Character.toUpperCase(teamName.charAt(lastSpace + 1))
+            });
+        }
+        return teamName.substring(0, Math.min(2, teamName.length())).toUpperCase();
+    }
+
+    static boolean containsIgnoreCase(String text, String part) {
+        int limit = text.length() - part.length();
+        for (int i = 0; i <= limit; i++) {
+            if (text.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Byte-level helpers ---
+
+    private int parseInt(ByteBuffer data, int field) {
+        int pos = fieldStart[field];
+        int end = fieldEnd[field];
+        if (fieldQuoted[field]) {
+            pos++;
+            end = lastQuote(data, pos, end);
+        }
+        while (pos < end && isSpace(data.get(pos))) pos++;
+        while (end > pos && isSpace(data.get(end - 1))) end--;
+        if (pos == end) {
+            throw new NumberFormatException("empty");
+        }
+        boolean negative = false;
+        byte first = data.get(pos);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            pos++;
+            if (pos == end) {
+                throw new NumberFormatException("sign only");
+            }
+        }
+        long value = 0;
+        for (; pos < end; pos++) {
+            int digit = data.get(pos) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("not a digit");
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw new NumberFormatException("overflow");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("overflow");
+        }
+        return (int) value;
+    }
+
+    // Decodes a trimmed field, unescaping doubled quotes inside quoted fields.
+    private String decode(ByteBuffer data, int field, StringTable table) {
+        int pos = fieldStart[field];
+        int end = fieldEnd[field];
+        while (pos < end && isSpace(data.get(pos))) pos++;
+        while (end > pos && isSpace(data.get(end - 1))) end--;
+        if (pos < end && data.get(pos) == '"') {
+            pos++;
+            end = lastQuote(data, pos, end);
+        }
+        if (scratch.length < end - pos) {
+            scratch = new byte[Math.max(end - pos, scratch.length * 2)];
+        }
+        int length = 0;
+        for (int i = pos; i < end; i++) {
+            byte b = data.get(i);
+            scratch[length++] = b;
+            if (b == '"' && i + 1 < end && data.get(i + 1) == '"') {
+                i++;
+            }
+        }
+        return table != null ? table.get(scratch, length) : new String(scratch, 0, length, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Small open-addressing cache from raw field bytes to decoded strings. Stops caching once
+     * full, so a column with unexpectedly many distinct values just falls back to decoding.
+     */
+    private static final class StringTable {
+        private static final int CAPACITY = 1024;
+        private final byte[][] keys = new byte[CAPACITY][];
+        private final String[] values = new String[CAPACITY];
+        private int size;
+
+        String get(byte[] bytes, int length) {
+            int hash = 1;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & (CAPACITY - 1);
+            while (keys[slot] != null) {
+                if (Arrays.equals(keys[slot], 0, keys[slot].length, bytes, 0, length)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & (CAPACITY - 1);
+            }
+            String value = new String(bytes, 0, length, StandardCharsets.UTF_8).trim();
+            if (size < CAPACITY / 2) {
+                keys[slot] = Arrays.copyOf(bytes, length);
+                values[slot] = value;
+                size++;
+            }
+            return value;
+        }
+    }
+
+    private static int lastQuote(ByteBuffer data, int from, int end) {
+        for (int i = end - 1; i >= from; i--) {
+            if (data.get(i) == '"') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isBlank(ByteBuffer data, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isSpace(data.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(ByteBuffer data, int start, int end, byte[] prefix) {
+        while (start < end && isSpace(data.get(start))) start++;
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int skipBom(ByteBuffer data, int start, int end) {
+        if (end - start >= 3 && (data.get(start) & 0xFF) == 0xEF
+                && (data.get(start + 1) & 0xFF) == 0xBB && (data.get(start + 2) & 0xFF) == 0xBF) {
+            return start + 3;
+        }
+        return start;
+    }
+
+    // Returns the offset just past the last '\n' before end, or 0 if there is none.
+    static int lastLineEnd(ByteBuffer data, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (data.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static String lineText(ByteBuffer data, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = data.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8).trim();
+    }
+}
@@ -0,0 +1,326 @@
+package hackathonsystem.benchmark;
+
+import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.TeamList;
+import hackathonsystem.controller.TeamStatistics;
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.WebDevTeam;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency stress check for the team registry. Writer threads act as judges and staff
+ * (registering, scoring, editing, disqualifying and removing teams) while reader threads
+ * continuously take snapshots and check that each one is internally consistent. At the end the
+ * leaderboard and statistics are compared against a brute-force recomputation.
+ *
+ * Usage: java hackathonsystem.benchmark.TeamListStressCheck [writers] [readers] [seconds]
+ * Exits with status 1 if any invariant was violated.
+ */
+public class TeamListStressCheck {
+
+    private static final String[] CATEGORIES = {"Cybersecurity", "Web Development", "Data Science", "Cloud Computing"};
+    private static final int INITIAL_TEAMS = 2_000;
+
+    private static final AtomicInteger failures = new AtomicInteger();
+
+    public static void main(String[] args) throws InterruptedException {
+        int writers = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        HackathonManager manager = new HackathonManager();
+        TeamList teamList = manager.getTeamList();
+        // The columnar mirror must follow every kind of change, so keep it on throughout
+        teamList.enableColumnarStore();
+        for (int i = 0; i < INITIAL_TEAMS; i++) {
+            manager.registerTeam(newTeam(teamList.allocateTeamId(), new Random(i)));
+        }
+
+        Set<Integer> allocatedIds = ConcurrentHashMap.newKeySet();
+        AtomicLong writes = new AtomicLong();
+        AtomicLong snapshots = new AtomicLong();
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < writers; w++) {
+            long seed = 1000 + w;
+            threads.add(new Thread(() -> {
+                Random random = new Random(seed);
+                await(start);
+                while (System.nanoTime() < deadline) {
+                    int teamNumber = 101 + random.nextInt(teamList.getNextTeamId() - 101);
+                    switch (random.nextInt(10)) {
+                        case 0: {
+                            int id = teamList.allocateTeamId();
+                            if (!allocatedIds.add(id)) {
+                                fail("team id " + id + " allocated twice");
+                            }
+                            manager.registerTeam(newTeam(id, random));
+                            break;
+                        }
+                        case 1:
+                            manager.removeTeam(teamNumber);
+                            break;
+                        case 2:
+                            manager.disqualifyTeam(teamNumber);
+                            break;
+                        case 3:
+                            manager.updateTeamDetails(teamNumber, "Renamed " + random.nextInt(100), "UTM",
+                                CATEGORIES[random.nextInt(CATEGORIES.length)], random.nextBoolean());
+                            break;
+                        case 4:
+                            manager.assignJudge(teamNumber, teamList.getAvailableJudges().get(random.nextInt(4)));
+                            break;
+                        case 5:
+                            manager.submitJudgeScores(teamList.getAvailableJudges().get(random.nextInt(4)), teamNumber, randomScores(random));
+                            break;
+                        default:
+                            manager.updateTeamScores(teamNumber, randomScores(random));
+                            break;
+                    }
+                    writes.incrementAndGet();
+                }
+            }, "writer-" + w));
+        }
+
+        for (int r = 0; r < readers; r++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (System.nanoTime() < deadline) {
+                    checkSortedSnapshot(teamList.getTeamsSortedByScore());
+                    checkStatistics(teamList.getStatistics());
+                    checkRegistrationSnapshot(teamList.getAllTeams());
+                    snapshots.incrementAndGet();
+                }
+            }, "reader-" + r));
+        }
+
+        for (Thread thread : threads) {
+            // An exception that ends a worker early is a failure too, not just a stack trace
+            thread.setUncaughtExceptionHandler((t, e) -> fail("uncaught " + e));
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        checkFinalState(teamList);
+        System.out.printf("%d writers, %d readers, %d s: %,d writes, %,d reader snapshots, %d teams, %d failures%n",
+            writers, readers, seconds, writes.get(), snapshots.get(), teamList.getTeamCount(), failures.get());
+        if (failures.get() > 0) {
+            System.exit(1);
+        }
+    }
+
+    // A leaderboard snapshot never lists a team twice, even while teams move between ranks.
+    // (Ordering is checked at the end: the teams keep changing after the snapshot is taken.)
+    private static void checkSortedSnapshot(List<AbstractHackathonTeam> sorted) {
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (!seen.add(sorted.get(i).getTeamNumber())) {
+                fail("team " + sorted.get(i).getTeamNumber() + " appears twice in the leaderboard");
+                return;
+            }
+        }
+    }
+
+    // Every team contributes five scores to the histogram and one entry to its category.
+    private static void checkStatistics(TeamStatistics statistics) {
+        int scores = 0;
+        for (int count : statistics.getScoreFrequency()) {
+            scores += count;
+        }
+        if (scores != statistics.getTeamCount() * 5) {
+            fail("score histogram holds " + scores + " scores for " + statistics.getTeamCount() + " teams");
+        }
+        int categorized = statistics.getCategoryBreakdown().values().stream()
+            .mapToInt(TeamStatistics.CategoryStatistics::getTeamCount).sum();
+        if (categorized != statistics.getTeamCount()) {
+            fail("category breakdown counts " + categorized + " of " + statistics.getTeamCount() + " teams");
+        }
+    }
+
+    private static void checkRegistrationSnapshot(List<AbstractHackathonTeam> teams) {
+        // The snapshot belongs to the caller, so sorting it must not disturb the registry
+        teams.sort(Comparator.comparingInt(AbstractHackathonTeam::getTeamNumber));
+        for (int i = 1; i < teams.size(); i++) {
+            if (teams.get(i - 1).getTeamNumber() == teams.get(i).getTeamNumber()) {
+                fail("team " + teams.get(i).getTeamNumber() + " registered twice");
+                return;
+            }
+        }
+    }
+
+    private static void checkFinalState(TeamList teamList) {
+        List<AbstractHackathonTeam> teams = teamList.getAllTeams();
+        List<AbstractHackathonTeam> expected = new ArrayList<>(teams);
+        expected.sort(Comparator.comparingDouble(AbstractHackathonTeam::getOverallScore).reversed()
+            .thenComparingInt(AbstractHackathonTeam::getTeamNumber));
+        List<AbstractHackathonTeam> actual = teamList.getTeamsSortedByScore();
+        if (!expected.equals(actual)) {
+            fail("leaderboard differs from a full sort of the registered teams");
+        }
+        for (int i = 0; i < expected.size(); i += 97) {
+            if (teamList.getTeamRank(expected.get(i).getTeamNumber()) != i + 1) {
+                fail("rank of team " + expected.get(i).getTeamNumber() + " is wrong");
+            }
+        }
+        for (AbstractHackathonTeam team : teams) {
+            if (teamList.findTeamByNumber(team.getTeamNumber()) != team) {
+                fail("index lookup of team " + team.getTeamNumber() + " is out of sync");
+            }
+        }
+        if (teams.size() != teamList.getTeamCount()) {
+            fail("registration order lists " + teams.size() + " teams but " + teamList.getTeamCount() + " are registered");
+        }
+        checkRegistrationOrder(teams);
+        for (String category : CATEGORIES) {
+            List<AbstractHackathonTeam> inCategory = new ArrayList<>();
+            for (AbstractHackathonTeam team : expected) {
+                if (team.getCategory().equalsIgnoreCase(category)) {
+                    inCategory.add(team);
+                }
+            }
+            if (!inCategory.equals(teamList.getTeamsSortedByScore(category))) {
+                fail("leaderboard of " + category + " differs from a filtered full sort");
+            }
+            if (teamList.getCategoryTeamCount(category) != inCategory.size()) {
+                fail("team count of " + category + " is wrong");
+            }
+            for (int i = 0; i < inCategory.size(); i += 31) {
+                if (teamList.getTeamRankInCategory(inCategory.get(i).getTeamNumber()) != i + 1) {
+                    fail("category rank of team " + inCategory.get(i).getTeamNumber() + " is wrong");
+                }
+            }
+        }
+        checkJudgeQueues(teamList, teams);
+        TeamStatistics statistics = teamList.getStatistics();
+        double sum = teams.stream().mapToDouble(AbstractHackathonTeam::getOverallScore).sum();
+        if (statistics.getTeamCount() != teams.size() || Math.abs(statistics.getOverallScoreSum() - sum) > 1e-6) {
+            fail("running statistics differ from a recomputation");
+        }
+        checkColumnarStore(teamList, teams, statistics);
+    }
+
+    // Scans over the columnar store agree with the team objects and with the running statistics.
+    private static void checkColumnarStore(TeamList teamList, List<AbstractHackathonTeam> teams, TeamStatistics statistics) {
+        long eligible = teams.stream().filter(AbstractHackathonTeam::isEligibility).count();
+        if (teamList.getEligibleTeamCount() != eligible) {
+            fail("columnar store counts " + teamList.getEligibleTeamCount() + " eligible teams, not " + eligible);
+        }
+        double[] averages = teamList.calculateCriterionAverages();
+        for (int c = 0; c < averages.length; c++) {
+            int criterion = c;
+            double expected = teams.stream().mapToInt(team -> team.getScore(criterion)).average().orElse(0);
+            if (Math.abs(averages[c] - expected) > 1e-9) {
+                fail("columnar average of criterion " + c + " is " + averages[c] + ", not " + expected);
+            }
+        }
+        teamList.recalculateStatistics();
+        TeamStatistics rebuilt = teamList.getStatistics();
+        if (rebuilt.getTeamCount() != statistics.getTeamCount()
+                || Math.abs(rebuilt.getOverallScoreSum() - statistics.getOverallScoreSum()) > 1e-6
+                || !Arrays.equals(rebuilt.getScoreFrequency(), statistics.getScoreFrequency())) {
+            fail("statistics rebuilt from the columnar store differ from the running ones");
+        }
+        // A bulk rescore refreshes the store from its own arrays
+        teamList.rescoreAll();
+        teamList.recalculateStatistics();
+        if (Math.abs(teamList.getStatistics().getOverallScoreSum() - statistics.getOverallScoreSum()) > 1e-6) {
+            fail("columnar store is out of sync after rescoreAll");
+        }
+    }
+
+    // The initial teams were registered one by one before the writers started, so the survivors
+    // must still come first and in ascending order, however many teams around them were removed.
+    private static void checkRegistrationOrder(List<AbstractHackathonTeam> teams) {
+        int lastInitial = 101 + INITIAL_TEAMS - 1;
+        int previous = 0;
+        boolean pastInitial = false;
+        for (AbstractHackathonTeam team : teams) {
+            int teamNumber = team.getTeamNumber();
+            if (teamNumber > lastInitial) {
+                pastInitial = true;
+            } else if (pastInitial || teamNumber < previous) {
+                fail("team " + teamNumber + " is out of registration order");
+                return;
+            } else {
+                previous = teamNumber;
+            }
+        }
+    }
+
+    private static void checkJudgeQueues(TeamList teamList, List<AbstractHackathonTeam> teams) {
+        for (String judge : teamList.getAvailableJudges()) {
+            Set<Integer> expected = new HashSet<>();
+            for (AbstractHackathonTeam team : teams) {
+                if (teamList.getJudgesForTeam(team.getTeamNumber()).contains(judge)) {
+                    expected.add(team.getTeamNumber());
+                }
+            }
+            List<AbstractHackathonTeam> queue = teamList.getTeamsForJudge(judge);
+            Set<Integer> actual = new HashSet<>();
+            for (AbstractHackathonTeam team : queue) {
+                actual.add(team.getTeamNumber());
+            }
+            if (!expected.equals(actual) || actual.size() != queue.size()) {
+                fail("work queue of " + judge + " differs from the assignments");
+            }
+            // Unscored teams must form the front of the queue
+            int unscored = teamList.getUnscoredTeamsForJudge(judge).size();
+            for (int i = 0; i < queue.size(); i++) {
+                AbstractHackathonTeam team = queue.get(i);
+                boolean isUnscored = team.hasJudgeScores()
+                    ? !team.hasJudgeSubmitted(judge)
+                    : Arrays.stream(team.getScores()).allMatch(s -> s == 0);
+                if (isUnscored != (i < unscored)) {
+                    fail("work queue of " + judge + " is out of order at position " + i);
+                    break;
+                }
+            }
+            AbstractHackathonTeam next = teamList.getNextTeamForJudge(judge);
+            if (queue.isEmpty() ? next != null : next != queue.get(0)) {
+                fail("next team of " + judge + " is not the head of the queue");
+            }
+        }
+    }
+
+    private static AbstractHackathonTeam newTeam(int teamNumber, Random random) {
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        return new WebDevTeam(teamNumber, "Team " + teamNumber, category, "UM", true, "TT",
+            randomScores(random), random.nextBoolean());
+    }
+
+    private static int[] randomScores(Random random) {
+        int[] scores = new int[5];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = random.nextInt(6);
+        }
+        return scores;
+    }
+
+    private static void fail(String message) {
+        failures.incrementAndGet();
+        System.err.println("FAILED: " + message + " (" + Thread.currentThread().getName() + ")");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
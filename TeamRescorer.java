@@ -0,0 +1,336 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.ScoringRule;
+import hackathonsystem.model.ScoringRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Recomputes every team's overall score, the leaderboard and the statistics in bulk, for use
+ * after the scoring rules change (see TeamList.rescoreAll).
+ *
+ * Teams are grouped by category and each category is a fork-join task: its teams' inputs are
+ * copied into flat arrays, scored in parallel chunks with ScoringRule.scoreAll, cached on the
+ * teams and sorted into rank order. Each sorted category becomes its category leaderboard, and
+ * the categories are merged into the overall leaderboard, every leaderboard being built from its
+ * sorted order in one pass.
+ */
+final class TeamRescorer {
+
+    // Teams scored per leaf task
+    private static final int CHUNK_SIZE = 16_384;
+
+    static final class Result {
+        final RankedTeamIndex ranking;
+        final Map<String, RankedTeamIndex> categoryRankings;
+        final TeamStatistics statistics;
+        private final CategoryResult[] categories;
+
+        Result(RankedTeamIndex ranking, Map<String, RankedTeamIndex> categoryRankings, TeamStatistics statistics, CategoryResult[] categories) {
+            this.ranking = ranking;
+            this.categoryRankings = categoryRankings;
+            this.statistics = statistics;
+            this.categories = categories;
+        }
+
+        // Refreshes the columnar store from the flat arrays the teams were scored from.
+        void writeColumns(ColumnarTeamStore store) {
+            for (CategoryResult category : categories) {
+                CategoryTask task = category.task;
+                store.putAll(category.category, task.teamNumbers, task.packedScores, task.eligible, task.overall, task.teams.length);
+            }
+        }
+    }
+
+    // One category's teams in rank order, with their scores and numbers in flat arrays for the merge
+    private static final class CategoryResult {
+        final String category;
+        final AbstractHackathonTeam[] teams;
+        final double[] scores;
+        final int[] teamNumbers;
+        final TeamStatistics statistics;
+        // The task's flat input and output arrays, in input order
+        final CategoryTask task;
+
+        CategoryResult(String category, AbstractHackathonTeam[] teams, double[] scores, int[] teamNumbers, TeamStatistics statistics, CategoryTask task) {
+            this.category = category;
+            this.teams = teams;
+            this.scores = scores;
+            this.teamNumbers = teamNumbers;
+            this.statistics = statistics;
+            this.task = task;
+        }
+    }
+
+    private TeamRescorer() {
+    }
+
+    /**
+     * Rescores the given teams. The caller must keep their scores, eligibility and category
+     * from changing meanwhile (TeamList holds its index read lock). The teams must all be scored
+     * by the given rules.
+     */
+    static Result rescore(Collection<AbstractHackathonTeam> teams, ScoringRules scoringRules) {
+        // Teams computed with an older rules generation are simply recomputed on their next read
+        int rulesGeneration = scoringRules.getGeneration();
+
+        Map<String, List<AbstractHackathonTeam>> byCategory = new LinkedHashMap<>();
+        for (AbstractHackathonTeam team : teams) {
+            byCategory.computeIfAbsent(team.getCategory(), c -> new ArrayList<>()).add(team);
+        }
+        List<RecursiveTask<CategoryResult>> tasks = new ArrayList<>(byCategory.size());
+        for (Map.Entry<String, List<AbstractHackathonTeam>> category : byCategory.entrySet()) {
+            tasks.add(new CategoryTask(category.getKey(), category.getValue().toArray(new AbstractHackathonTeam[0]), scoringRules, rulesGeneration));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        CategoryResult[] categories = new CategoryResult[tasks.size()];
+        TeamStatistics statistics = new TeamStatistics();
+        for (int i = 0; i < tasks.size(); i++) {
+            categories[i] = tasks.get(i).join();
+            statistics.addAll(categories[i].statistics);
+        }
+
+        AbstractHackathonTeam[] ranked = new AbstractHackathonTeam[teams.size()];
+        double[] scores = new double[teams.size()];
+        int count = merge(categories, ranked, scores);
+        RankedTeamIndex ranking = new RankedTeamIndex();
+        ranking.rebuild(ranked, scores, count);
+        return new Result(ranking, categoryRankings(categories), statistics, categories);
+    }
+
+    // Category leaderboards match names case-insensitively, so categories differing only in case share one.
+    private static Map<String, RankedTeamIndex> categoryRankings(CategoryResult[] categories) {
+        Map<String, List<CategoryResult>> partitions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (CategoryResult category : categories) {
+            partitions.computeIfAbsent(category.category, c -> new ArrayList<>()).add(category);
+        }
+        Map<String, RankedTeamIndex> rankings = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<CategoryResult>> partition : partitions.entrySet()) {
+            CategoryResult[] parts = partition.getValue().toArray(new CategoryResult[0]);
+            RankedTeamIndex ranking = new RankedTeamIndex();
+            if (parts.length == 1) {
+                ranking.rebuild(parts[0].teams, parts[0].scores, parts[0].teams.length);
+            } else {
+                int size = 0;
+                for (CategoryResult part : parts) {
+                    size += part.teams.length;
+                }
+                AbstractHackathonTeam[] ranked = new AbstractHackathonTeam[size];
+                double[] scores = new double[size];
+                ranking.rebuild(ranked, scores, merge(parts, ranked, scores));
+            }
+            rankings.put(partition.getKey(), ranking);
+        }
+        return rankings;
+    }
+
+    // k-way merge of the per-category rankings; there are only a handful of categories.
+    private static int merge(CategoryResult[] categories, AbstractHackathonTeam[] ranked, double[] scores) {
+        int[] heads = new int[categories.length];
+        int count = 0;
+        while (true) {
+            int best = -1;
+            double bestScore = 0;
+            int bestNumber = 0;
+            for (int c = 0; c < categories.length; c++) {
+                CategoryResult category = categories[c];
+                if (heads[c] == category.teams.length) {
+                    continue;
+                }
+                double score = category.scores[heads[c]];
+                int number = category.teamNumbers[heads[c]];
+                int cmp = best < 0 ? -1 : Double.compare(bestScore, score);
+                if (cmp < 0 || (cmp == 0 && number < bestNumber)) {
+                    best = c;
+                    bestScore = score;
+                    bestNumber = number;
+                }
+            }
+            if (best < 0) {
+                return count;
+            }
+            CategoryResult category = categories[best];
+            int head = heads[best]++;
+            ranked[count] = category.teams[head];
+            scores[count] = category.scores[head];
+            count++;
+        }
+    }
+
+    // Scores, caches and sorts the teams of one category.
+    private static final class CategoryTask extends RecursiveTask<CategoryResult> {
+        private static final long serialVersionUID = 1L;
+        private final String category;
+        private final AbstractHackathonTeam[] teams;
+        private final ScoringRules scoringRules;
+        private final int rulesGeneration;
+        private final int[] packedScores;
+        private final boolean[] eligible;
+        private final boolean[] hasAttribute;
+        private final int[] versions;
+        private final int[] teamNumbers;
+        private final ScoringRule[] rules;
+        private final double[] overall;
+
+        CategoryTask(String category, AbstractHackathonTeam[] teams, ScoringRules scoringRules, int rulesGeneration) {
+            this.category = category;
+            this.teams = teams;
+            this.scoringRules = scoringRules;
+            this.rulesGeneration = rulesGeneration;
+            int n = teams.length;
+            this.packedScores = new int[n * ScoringRule.CRITERIA];
+            this.eligible = new boolean[n];
+            this.hasAttribute = new boolean[n];
+            this.versions = new int[n];
+            this.teamNumbers = new int[n];
+            this.rules = new ScoringRule[n];
+            this.overall = new double[n];
+        }
+
+        @Override
+        protected CategoryResult compute() {
+            int n = teams.length;
+            List<RecursiveAction> chunks = new ArrayList<>((n + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            for (int from = 0; from < n; from += CHUNK_SIZE) {
+                int start = from;
+                int end = Math.min(n, from + CHUNK_SIZE);
+                chunks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        scoreRange(start, end);
+                    }
+                });
+            }
+            invokeAll(chunks);
+
+            int[] order = rankOrder();
+            AbstractHackathonTeam[] rankedTeams = new AbstractHackathonTeam[n];
+            double[] rankedScores = new double[n];
+            int[] rankedNumbers = new int[n];
+            for (int i = 0; i < n; i++) {
+                rankedTeams[i] = teams[order[i]];
+                rankedScores[i] = overall[order[i]];
+                rankedNumbers[i] = teamNumbers[order[i]];
+            }
+            return new CategoryResult(category, rankedTeams, rankedScores, rankedNumbers, statistics(), this);
+        }
+
+        // The category's aggregates, straight from the flat arrays.
+        private TeamStatistics statistics() {
+            double sum = 0;
+            for (double score : overall) {
+                sum += score;
+            }
+            int[] frequency = new int[TeamStatistics.SCORE_RANGE];
+            for (int score : packedScores) {
+                if (score >= 0 && score < frequency.length) {
+                    frequency[score]++;
+                }
+            }
+            TeamStatistics statistics = new TeamStatistics();
+            statistics.addCategory(category, teams.length, sum, frequency);
+            return statistics;
+        }
+
+        /**
+         * Sorts the category into rank order without comparators or per-team objects: teams are
+         * first ordered by number with a primitive sort, then stably bucketed by score. Scores
+         * are sums of a few small integers times fixed weights, so there are few distinct values.
+         */
+        private int[] rankOrder() {
+            int n = teams.length;
+            long[] byNumber = new long[n];
+            for (int i = 0; i < n; i++) {
+                byNumber[i] = ((long) teamNumbers[i] << 32) | i;
+            }
+            Arrays.sort(byNumber);
+
+            double[] distinct = overall.clone();
+            Arrays.sort(distinct);
+            int distinctCount = 0;
+            for (int i = 0; i < n; i++) {
+                if (distinctCount == 0 || Double.compare(distinct[i], distinct[distinctCount - 1]) != 0) {
+                    distinct[distinctCount++] = distinct[i];
+                }
+            }
+
+            // Bucket 0 holds the highest score
+            int[] bucketOf = new int[n];
+            int[] bucketStart = new int[distinctCount + 1];
+            for (int i = 0; i < n; i++) {
+                bucketOf[i] = distinctCount - 1 - Arrays.binarySearch(distinct, 0, distinctCount, overall[i]);
+                bucketStart[bucketOf[i] + 1]++;
+            }
+            for (int b = 0; b < distinctCount; b++) {
+                bucketStart[b + 1] += bucketStart[b];
+            }
+            int[] order = new int[n];
+            for (long key : byNumber) {
+                int index = (int) key;
+                order[bucketStart[bucketOf[index]]++] = index;
+            }
+            return order;
+        }
+
+        private void scoreRange(int from, int to) {
+            // Within one category the rule depends only on the team type, so look it up once per type
+            Class<?> ruleType = null;
+            ScoringRule typeRule = null;
+            for (int i = from; i < to; i++) {
+                AbstractHackathonTeam team = teams[i];
+                // Version first, so a racing edit leaves the cached value stale-tagged
+                versions[i] = team.getVersion();
+                teamNumbers[i] = team.getTeamNumber();
+                int base = i * ScoringRule.CRITERIA;
+                for (int c = 0; c < ScoringRule.CRITERIA; c++) {
+                    packedScores[base + c] = team.getScore(c);
+                }
+                eligible[i] = team.isEligibility();
+                hasAttribute[i] = team.hasScoringAttribute();
+                if (team.getClass() != ruleType) {
+                    ruleType = team.getClass();
+                    typeRule = team.getScoringRule();
+                }
+                // Aggregated judge submissions are fractional, so those teams score themselves
+                rules[i] = team.hasJudgeScores() ? null : typeRule;
+            }
+            // Score each run of teams sharing a rule in one flat loop
+            int runStart = from;
+            while (runStart < to) {
+                ScoringRule rule = rules[runStart];
+                int runEnd = runStart + 1;
+                while (runEnd < to && rules[runEnd] == rule) {
+                    runEnd++;
+                }
+                if (rule != null) {
+                    rule.scoreAll(packedScores, eligible, hasAttribute, runStart, runEnd, overall);
+                } else {
+                    for (int i = runStart; i < runEnd; i++) {
+                        overall[i] = teams[i].getOverallScore();
+                    }
+                }
+                runStart = runEnd;
+            }
+            for (int i = from; i < to; i++) {
+                if (rules[i] != null) {
+                    teams[i].cacheOverallScore(versions[i], scoringRules, rulesGeneration, overall[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Type-ahead index over team names, universities and categories. Each field is split into
+ * lower-case words; a team matches a query when every query word starts one of its words
+ * ("sec min" finds "Secure Minds") or, for words of three or more letters, appears inside one
+ * ("curity" finds "Cybersecurity").
+ *
+ * Words live in a sorted dictionary, so prefix lookups are range scans, with a trigram index
+ * over the dictionary's words (not over the teams) for infix lookups. Each word keeps the sorted
+ * numbers of the teams that use it, per field. Results come best first: whole-word matches, then
+ * prefix, then infix; within those, team name before university before category, then by word
+ * and team number. Postings are only read until the requested number of results is found.
+ *
+ * Not thread-safe on its own; TeamList calls it under its index lock.
+ */
+final class TeamSearchIndex {
+
+    // Name, university and category, in order of precedence
+    private static final int FIELDS = 3;
+    private static final int GRAM = 3;
+
+    // Sorted team numbers, grown in place; teams are usually added in ascending order.
+    private static final class Postings {
+        int[] teams = new int[4];
+        int size;
+
+        void add(int teamNumber) {
+            int at = Arrays.binarySearch(teams, 0, size, teamNumber);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == teams.length) {
+                teams = Arrays.copyOf(teams, size * 2);
+            }
+            System.arraycopy(teams, at, teams, at + 1, size - at);
+            teams[at] = teamNumber;
+            size++;
+        }
+
+        void remove(int teamNumber) {
+            int at = Arrays.binarySearch(teams, 0, size, teamNumber);
+            if (at >= 0) {
+                System.arraycopy(teams, at + 1, teams, at, size - at - 1);
+                size--;
+            }
+        }
+    }
+
+    private static final class Word {
+        final String text;
+        final Postings[] fields = new Postings[FIELDS];
+        int uses;
+
+        Word(String text) {
+            this.text = text;
+        }
+    }
+
+    private final TreeMap<String, Word> words = new TreeMap<>();
+    // Trigram -> dictionary words containing it
+    private final Map<String, Set<Word>> grams = new HashMap<>();
+    // The registered teams, whose fields are checked against the rest of a query
+    private final Map<Integer, AbstractHackathonTeam> teams;
+
+    TeamSearchIndex(Map<Integer, AbstractHackathonTeam> teams) {
+        this.teams = teams;
+    }
+
+    void add(AbstractHackathonTeam team) {
+        index(team.getTeamNumber(), fieldsOf(team), true);
+    }
+
+    // Unindexes the team; its fields must still be the ones it was indexed with.
+    void remove(AbstractHackathonTeam team) {
+        index(team.getTeamNumber(), fieldsOf(team), false);
+    }
+
+    // Re-indexes the team if its name, university or category changed from the given ones.
+    void update(AbstractHackathonTeam team, String oldName, String oldUniversity, String oldCategory) {
+        String[] before = {oldName, oldUniversity, oldCategory};
+        String[] after = fieldsOf(team);
+        if (Arrays.equals(before, after)) {
+            return;
+        }
+        index(team.getTeamNumber(), before, false);
+        index(team.getTeamNumber(), after, true);
+    }
+
+    /**
+     * Numbers of up to limit teams matching every word of the query, best match first. Each query
+     * word is looked up in the dictionary; the longest one drives the search and the others are
+     * checked against each candidate's fields.
+     */
+    List<Integer> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String driver = terms.get(0);
+        for (String term : terms) {
+            if (term.length() > driver.length()) {
+                driver = term;
+            }
+        }
+        List<String> others = new ArrayList<>(terms);
+        others.remove(driver);
+
+        List<Integer> results = new ArrayList<>(Math.min(limit, 64));
+        Set<Integer> seen = new HashSet<>();
+        Word exact = words.get(driver);
+        if (exact != null && collect(Collections.singletonList(exact), others, seen, results, limit)) {
+            return results;
+        }
+        NavigableMap<String, Word> prefixed = words.subMap(driver, false, driver + Character.MAX_VALUE, false);
+        if (collect(prefixed.values(), others, seen, results, limit) || driver.length() < GRAM) {
+            return results;
+        }
+        collect(infixWords(driver), others, seen, results, limit);
+        return results;
+    }
+
+    // Adds matching teams from the words' postings in field order; true once limit is reached.
+    private boolean collect(Iterable<Word> matches, List<String> others, Set<Integer> seen, List<Integer> results, int limit) {
+        for (int field = 0; field < FIELDS; field++) {
+            for (Word word : matches) {
+                Postings postings = word.fields[field];
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    int teamNumber = postings.teams[i];
+                    if (seen.add(teamNumber) && (others.isEmpty() || matchesAll(fieldsOf(teams.get(teamNumber)), others))) {
+                        results.add(teamNumber);
+                        if (results.size() == limit) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // Dictionary words containing the term other than at their start, in dictionary order.
+    private List<Word> infixWords(String term) {
+        Set<Word> candidates = null;
+        for (int i = 0; i + GRAM <= term.length(); i++) {
+            Set<Word> withGram = grams.get(term.substring(i, i + GRAM));
+            if (withGram == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || withGram.size() < candidates.size()) {
+                candidates = withGram;
+            }
+        }
+        List<Word> matches = new ArrayList<>();
+        for (Word word : candidates) {
+            if (word.text.indexOf(term, 1) > 0) {
+                matches.add(word);
+            }
+        }
+        matches.sort((a, b) -> a.text.compareTo(b.text));
+        return matches;
+    }
+
+    private static String[] fieldsOf(AbstractHackathonTeam team) {
+        return new String[] {team.getTeamName(), team.getUniversity(), team.getCategory()};
+    }
+
+    private static boolean matchesAll(String[] fields, List<String> terms) {
+        for (String term : terms) {
+            if (!matchesAny(fields, term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAny(String[] fields, String term) {
+        for (String field : fields) {
+            for (String text : tokenize(field)) {
+                if (term.length() >= GRAM ? text.contains(term) : text.startsWith(term)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void index(int teamNumber, String[] fields, boolean add) {
+        for (int field = 0; field < FIELDS; field++) {
+            for (String text : tokenize(fields[field])) {
+                if (add) {
+                    index(text, field, teamNumber);
+                } else {
+                    unindex(text, field, teamNumber);
+                }
+            }
+        }
+    }
+
+    private void index(String text, int field, int teamNumber) {
+        Word word = words.get(text);
+        if (word == null) {
+            word = new Word(text);
+            words.put(text, word);
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                grams.computeIfAbsent(text.substring(i, i + GRAM), g -> new HashSet<>()).add(word);
+            }
+        }
+        if (word.fields[field] == null) {
+            word.fields[field] = new Postings();
+        }
+        int before = word.fields[field].size;
+        word.fields[field].add(teamNumber);
+        word.uses += word.fields[field].size - before;
+    }
+
+    private void unindex(String text, int field, int teamNumber) {
+        Word word = words.get(text);
+        if (word == null || word.fields[field] == null) {
+            return;
+        }
+        int before = word.fields[field].size;
+        word.fields[field].remove(teamNumber);
+        word.uses -= before - word.fields[field].size;
+        if (word.fields[field].size == 0) {
+            word.fields[field] = null;
+        }
+        if (word.uses == 0) {
+            words.remove(text);
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                String gram = text.substring(i, i + GRAM);
+                Set<Word> withGram = grams.get(gram);
+                withGram.remove(word);
+                if (withGram.isEmpty()) {
+                    grams.remove(gram);
+                }
+            }
+        }
+    }
+
+    // Lower-case runs of letters and digits.
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean inWord = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                String token = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
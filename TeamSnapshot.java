@@ -0,0 +1,397 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.CybersecurityTeam;
+import hackathonsystem.model.RegisteredTeam;
+import hackathonsystem.model.WebDevTeam;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot of the full TeamList state, used for fast cold starts and to
+ * compact the mutation log. Also holds the team record codec used by MutationLog's ADD_TEAM
+ * records.
+ *
+ * Layout (big-endian):
+ *   header:      int magic, short version, int nextTeamId, int teamCount
+ *   strings:     int count, then per string int byteLength + UTF-8 bytes
+ *   categories:  int count, string ids
+ *   judges:      int count, string ids
+ *   teams:       byte kind, byte flags, int teamNumber, string ids for name, university,
+ *                category and initials, 5 scores (bytes, or ints when FLAG_WIDE_SCORES),
+ *                and for registered teams int memberCount + member string ids
+ *   assignments: int count, then int teamNumber + int judgeCount + judge string ids
+ *   submissions: int count, then int teamNumber + int submissionCount, and per submission
+ *                the judge's string id + 5 score bytes
+ *   trailer:     int CRC32 of everything before it
+ *
+ * Every string is stored once and referenced by id. Loading reads the file into one buffer and
+ * parses it in one pass without a stream stack. A snapshot with any other version is rejected.
+ */
+public final class TeamSnapshot {
+
+    private static final int MAGIC = 0x484B534E; // "HKSN"
+    private static final short VERSION = 4;
+
+    private static final byte KIND_WEB_DEV = 1;
+    private static final byte KIND_CYBERSECURITY = 2;
+    private static final byte KIND_REGISTERED = 3;
+
+    private static final int FLAG_ELIGIBLE = 1;
+    private static final int FLAG_ATTRIBUTE = 2;
+    private static final int FLAG_WIDE_SCORES = 4;
+
+    private TeamSnapshot() {
+    }
+
+    /**
+     * Writes the snapshot to a temporary file, fsyncs it and atomically renames it into place,
+     * so a crash never leaves a half-written snapshot behind.
+     */
+    public static void write(Path path, TeamList teamList) throws IOException {
+        List<AbstractHackathonTeam> teams = teamList.getAllTeams();
+        Map<Integer, List<String>> assignments = teamList.getJudgeAssignments();
+
+        // First pass: intern every string so records can refer to them by id
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        for (String category : teamList.getAvailableCategories()) intern(ids, category);
+        for (String judge : teamList.getAvailableJudges()) intern(ids, judge);
+        for (AbstractHackathonTeam team : teams) {
+            intern(ids, team.getTeamName());
+            intern(ids, team.getUniversity());
+            intern(ids, team.getCategory());
+            intern(ids, team.getCustomAttributeDetails());
+            if (team instanceof RegisteredTeam) {
+                for (String member : ((RegisteredTeam) team).getMembers()) intern(ids, member);
+            }
+        }
+        for (List<String> judges : assignments.values()) {
+            for (String judge : judges) intern(ids, judge);
+        }
+        Map<Integer, Map<String, int[]>> submissions = new LinkedHashMap<>();
+        for (AbstractHackathonTeam team : teams) {
+            if (team.hasJudgeScores()) {
+                Map<String, int[]> sheet = team.getJudgeScores();
+                submissions.put(team.getTeamNumber(), sheet);
+                for (String judge : sheet.keySet()) intern(ids, judge);
+            }
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(teamList.getNextTeamId());
+            out.writeInt(teams.size());
+
+            out.writeInt(ids.size());
+            for (String value : ids.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            writeIds(out, ids, teamList.getAvailableCategories());
+            writeIds(out, ids, teamList.getAvailableJudges());
+
+            for (AbstractHackathonTeam team : teams) {
+                writeTeamRecord(out, ids, team);
+            }
+
+            // Taken once: the live view could change size between writing the count and the entries
+            List<Map.Entry<Integer, List<String>>> panels = new ArrayList<>(assignments.entrySet());
+            out.writeInt(panels.size());
+            for (Map.Entry<Integer, List<String>> entry : panels) {
+                out.writeInt(entry.getKey());
+                writeIds(out, ids, entry.getValue());
+            }
+
+            out.writeInt(submissions.size());
+            for (Map.Entry<Integer, Map<String, int[]>> entry : submissions.entrySet()) {
+                out.writeInt(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Map.Entry<String, int[]> submission : entry.getValue().entrySet()) {
+                    out.writeInt(ids.get(submission.getKey()));
+                    for (int score : submission.getValue()) out.writeByte(score);
+                }
+            }
+            out.flush();
+            // The trailer is written outside the checksum it stores
+            int checksum = (int) crc.getValue();
+            file.write(new byte[]{(byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum});
+            file.getFD().sync();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a snapshot into an empty TeamList.
+     */
+    public static void read(Path path, TeamList teamList) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot too large to read: " + path);
+            }
+            // Read into the heap rather than mapping: a live mapping keeps the file locked on
+            // Windows, where the next compaction could then not replace it
+            ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+            while (data.hasRemaining()) {
+                if (channel.read(data) < 0) {
+                    throw new IOException("Truncated or corrupt snapshot: " + path);
+                }
+            }
+            data.flip();
+            if (data.remaining() < 6 || data.getInt() != MAGIC) {
+                throw new IOException("Not a team snapshot: " + path);
+            }
+            short version = data.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + " in " + path);
+            }
+            try {
+                readBuffer(data, teamList);
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Truncated or corrupt snapshot: " + path, e);
+            }
+        }
+    }
+
+    private static void readBuffer(ByteBuffer data, TeamList teamList) throws IOException {
+        int bodyEnd = data.limit() - 4;
+        if (bodyEnd < data.position() + 8) {
+            throw new IOException("Truncated snapshot header");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate().position(0).limit(bodyEnd));
+        if ((int) crc.getValue() != data.getInt(bodyEnd)) {
+            throw new IOException("Snapshot checksum mismatch");
+        }
+
+        int nextTeamId = data.getInt();
+        int teamCount = data.getInt();
+
+        String[] strings = new String[data.getInt()];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < strings.length; i++) {
+            int length = data.getInt();
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            data.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        replace(teamList.getAvailableCategories(), readIds(data, strings));
+        replace(teamList.getAvailableJudges(), readIds(data, strings));
+
+        for (int i = 0; i < teamCount; i++) {
+            teamList.addTeam(readTeamRecord(data, strings));
+        }
+
+        int assignmentCount = data.getInt();
+        for (int i = 0; i < assignmentCount; i++) {
+            int teamNumber = data.getInt();
+            teamList.assignJudgesToTeam(teamNumber, readIds(data, strings));
+        }
+
+        int submissionTeams = data.getInt();
+        for (int i = 0; i < submissionTeams; i++) {
+            AbstractHackathonTeam team = teamList.findTeamByNumber(data.getInt());
+            String[] judges = new String[data.getInt()];
+            int[][] scores = new int[judges.length][5];
+            for (int j = 0; j < judges.length; j++) {
+                judges[j] = strings[data.getInt()];
+                for (int c = 0; c < 5; c++) scores[j][c] = data.get();
+            }
+            if (team != null) {
+                teamList.updateTeam(team, t -> {
+                    for (int j = 0; j < judges.length; j++) t.submitJudgeScores(judges[j], scores[j]);
+                });
+            }
+        }
+        teamList.setNextTeamId(Math.max(nextTeamId, teamList.getNextTeamId()));
+    }
+
+    private static void writeTeamRecord(DataOutputStream out, Map<String, Integer> ids, AbstractHackathonTeam team) throws IOException {
+        byte kind;
+        boolean attribute = false;
+        if (team instanceof CybersecurityTeam) {
+            kind = KIND_CYBERSECURITY;
+            attribute = ((CybersecurityTeam) team).adheresToSecurityStandards();
+        } else if (team instanceof WebDevTeam) {
+            kind = KIND_WEB_DEV;
+            attribute = ((WebDevTeam) team).usesModernFramework();
+        } else if (team instanceof RegisteredTeam) {
+            kind = KIND_REGISTERED;
+        } else {
+            throw new IOException("Cannot persist team type " + team.getClass().getName());
+        }
+
+        boolean wideScores = false;
+        for (int i = 0; i < 5; i++) {
+            int score = team.getScore(i);
+            wideScores |= score < Byte.MIN_VALUE || score > Byte.MAX_VALUE;
+        }
+        int flags = (team.isEligibility() ? FLAG_ELIGIBLE : 0) | (attribute ? FLAG_ATTRIBUTE : 0) | (wideScores ? FLAG_WIDE_SCORES : 0);
+
+        out.writeByte(kind);
+        out.writeByte(flags);
+        out.writeInt(team.getTeamNumber());
+        out.writeInt(ids.get(team.getTeamName()));
+        out.writeInt(ids.get(team.getUniversity()));
+        out.writeInt(ids.get(team.getCategory()));
+        out.writeInt(ids.get(team.getCustomAttributeDetails()));
+        for (int i = 0; i < 5; i++) {
+            if (wideScores) {
+                out.writeInt(team.getScore(i));
+            } else {
+                out.writeByte(team.getScore(i));
+            }
+        }
+        if (kind == KIND_REGISTERED) {
+            String[] members = ((RegisteredTeam) team).getMembers();
+            out.writeInt(members.length);
+            for (String member : members) {
+                out.writeInt(ids.get(member));
+            }
+        }
+    }
+
+    private static AbstractHackathonTeam readTeamRecord(ByteBuffer data, String[] strings) throws IOException {
+        byte kind = data.get();
+        int flags = data.get();
+        int teamNumber = data.getInt();
+        String teamName = strings[data.getInt()];
+        String university = strings[data.getInt()];
+        String category = strings[data.getInt()];
+        String initials = strings[data.getInt()];
+        int[] scores = new int[5];
+        for (int i = 0; i < 5; i++) {
+            scores[i] = (flags & FLAG_WIDE_SCORES) != 0 ? data.getInt() : data.get();
+        }
+        boolean eligibility = (flags & FLAG_ELIGIBLE) != 0;
+        boolean attribute = (flags & FLAG_ATTRIBUTE) != 0;
+
+        switch (kind) {
+            case KIND_WEB_DEV:
+                return new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, attribute);
+            case KIND_CYBERSECURITY:
+                return new CybersecurityTeam(teamNumber, teamName, category, university, eligibility, initials, scores, attribute);
+            case KIND_REGISTERED:
+                String[] members = new String[data.getInt()];
+                for (int i = 0; i < members.length; i++) {
+                    members[i] = strings[data.getInt()];
+                }
+                return new RegisteredTeam(teamNumber, teamName, category, university, eligibility, initials, scores, members);
+            default:
+                throw new IOException("Unknown team kind " + kind);
+        }
+    }
+
+    private static void intern(Map<String, Integer> ids, String value) {
+        ids.putIfAbsent(value, ids.size());
+    }
+
+    private static void writeIds(DataOutputStream out, Map<String, Integer> ids, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            out.writeInt(ids.get(value));
+        }
+    }
+
+    private static List<String> readIds(ByteBuffer data, String[] strings) {
+        int count = data.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(strings[data.getInt()]);
+        }
+        return values;
+    }
+
+    // --- Team codec for mutation log records ---
+
+    public static void writeTeam(DataOutput out, AbstractHackathonTeam team) throws IOException {
+        if (team instanceof CybersecurityTeam) {
+            out.writeByte(KIND_CYBERSECURITY);
+        } else if (team instanceof WebDevTeam) {
+            out.writeByte(KIND_WEB_DEV);
+        } else if (team instanceof RegisteredTeam) {
+            out.writeByte(KIND_REGISTERED);
+        } else {
+            throw new IOException("Cannot persist team type " + team.getClass().getName());
+        }
+        out.writeInt(team.getTeamNumber());
+        out.writeUTF(team.getTeamName());
+        out.writeUTF(team.getUniversity());
+        out.writeUTF(team.getCategory());
+        out.writeBoolean(team.isEligibility());
+        out.writeUTF(team.getCustomAttributeDetails());
+        for (int i = 0; i < 5; i++) {
+            out.writeInt(team.getScore(i));
+        }
+
+        if (team instanceof CybersecurityTeam) {
+            out.writeBoolean(((CybersecurityTeam) team).adheresToSecurityStandards());
+        } else if (team instanceof WebDevTeam) {
+            out.writeBoolean(((WebDevTeam) team).usesModernFramework());
+        } else {
+            String[] members = ((RegisteredTeam) team).getMembers();
+            out.writeInt(members.length);
+            for (String member : members) {
+                out.writeUTF(member);
+            }
+        }
+    }
+
+    public static AbstractHackathonTeam readTeam(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        int teamNumber = in.readInt();
+        String teamName = in.readUTF();
+        String university = in.readUTF();
+        String category = in.readUTF();
+        boolean eligibility = in.readBoolean();
+        String initials = in.readUTF();
+        int[] scores = new int[5];
+        for (int i = 0; i < 5; i++) {
+            scores[i] = in.readInt();
+        }
+
+        switch (kind) {
+            case KIND_WEB_DEV:
+                return new WebDevTeam(teamNumber, teamName, category, university, eligibility, initials, scores, in.readBoolean());
+            case KIND_CYBERSECURITY:
+                return new CybersecurityTeam(teamNumber, teamName, category, university, eligibility, initials, scores, in.readBoolean());
+            case KIND_REGISTERED:
+                String[] members = new String[in.readInt()];
+                for (int i = 0; i < members.length; i++) {
+                    members[i] = in.readUTF();
+                }
+                return new RegisteredTeam(teamNumber, teamName, category, university, eligibility, initials, scores, members);
+            default:
+                throw new IOException("Unknown team kind " + kind);
+        }
+    }
+
+    private static void replace(List<String> target, List<String> values) {
+        target.clear();
+        target.addAll(values);
+    }
+}
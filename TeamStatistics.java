@@ -0,0 +1,162 @@
+package hackathonsystem.controller;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running aggregates over all registered teams: overall score sum/count, the individual
+ * score histogram and a per-category breakdown. TeamList removes a team's contribution
+ * before it changes and adds it back afterwards, so every query here is O(1).
+ */
+public class TeamStatistics {
+
+    // Per-category running totals
+    public static class CategoryStatistics {
+        private int teamCount;
+        private double overallScoreSum;
+
+        public int getTeamCount() { return teamCount; }
+        public double getOverallScoreSum() { return overallScoreSum; }
+        public double getAverageOverallScore() {
+            return teamCount == 0 ? 0.0 : overallScoreSum / teamCount;
+        }
+    }
+
+    // Individual scores counted by the histogram: 0-10
+    static final int SCORE_RANGE = 11;
+
+    private int teamCount;
+    private double overallScoreSum;
+    private final int[] scoreFrequency = new int[SCORE_RANGE];
+    private final Map<String, CategoryStatistics> categories = new LinkedHashMap<>();
+
+    public TeamStatistics() {
+    }
+
+    // Copy constructor, used to hand readers a snapshot that later updates cannot change.
+    public TeamStatistics(TeamStatistics other) {
+        teamCount = other.teamCount;
+        overallScoreSum = other.overallScoreSum;
+        System.arraycopy(other.scoreFrequency, 0, scoreFrequency, 0, scoreFrequency.length);
+        for (Map.Entry<String, CategoryStatistics> entry : other.categories.entrySet()) {
+            CategoryStatistics copy = new CategoryStatistics();
+            copy.teamCount = entry.getValue().teamCount;
+            copy.overallScoreSum = entry.getValue().overallScoreSum;
+            categories.put(entry.getKey(), copy);
+        }
+    }
+
+    public void add(AbstractHackathonTeam team) {
+        apply(team, 1);
+    }
+
+    public void remove(AbstractHackathonTeam team) {
+        apply(team, -1);
+    }
+
+    // Adds another set of aggregates to this one, e.g. to combine per-category partial results.
+    public void addAll(TeamStatistics other) {
+        teamCount += other.teamCount;
+        overallScoreSum += other.overallScoreSum;
+        for (int i = 0; i < scoreFrequency.length; i++) {
+            scoreFrequency[i] += other.scoreFrequency[i];
+        }
+        for (Map.Entry<String, CategoryStatistics> entry : other.categories.entrySet()) {
+            CategoryStatistics stats = categories.computeIfAbsent(entry.getKey(), c -> new CategoryStatistics());
+            stats.teamCount += entry.getValue().teamCount;
+            stats.overallScoreSum += entry.getValue().overallScoreSum;
+        }
+    }
+
+    // Adds the totals of a whole group of teams in one category.
+    void addCategory(String category, int count, double scoreSum, int[] frequency) {
+        teamCount += count;
+        overallScoreSum += scoreSum;
+        for (int i = 0; i < scoreFrequency.length; i++) {
+            scoreFrequency[i] += frequency[i];
+        }
+        CategoryStatistics stats = categories.computeIfAbsent(category, c -> new CategoryStatistics());
+        stats.teamCount += count;
+        stats.overallScoreSum += scoreSum;
+    }
+
+    public void clear() {
+        teamCount = 0;
+        overallScoreSum = 0;
+        Arrays.fill(scoreFrequency, 0);
+        categories.clear();
+    }
+
+    /**
+     * Recomputes every aggregate from the columnar store in a few tight passes,
+     * discarding any floating-point drift accumulated by incremental updates.
+     */
+    public void rebuild(ColumnarTeamStore store) {
+        clear();
+        teamCount = store.size();
+        overallScoreSum = store.overallScoreSum();
+        System.arraycopy(store.scoreFrequency(), 0, scoreFrequency, 0, scoreFrequency.length);
+        int[] counts = store.categoryCounts();
+        double[] sums = store.categoryScoreSums();
+        for (short id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                CategoryStatistics stats = new CategoryStatistics();
+                stats.teamCount = counts[id];
+                stats.overallScoreSum = sums[id];
+                categories.put(store.getCategoryName(id), stats);
+            }
+        }
+    }
+
+    private void apply(AbstractHackathonTeam team, int sign) {
+        double overall = team.getOverallScore();
+        teamCount += sign;
+        overallScoreSum += sign * overall;
+        if (teamCount == 0) {
+            // Reset to avoid floating-point residue once the list is empty
+            overallScoreSum = 0;
+        }
+
+        for (int i = 0; i < 5; i++) {
+            int score = team.getScore(i);
+            if (score >= 0 && score < scoreFrequency.length) {
+                scoreFrequency[score] += sign;
+            }
+        }
+
+        String category = team.getCategory();
+        CategoryStatistics stats = categories.computeIfAbsent(category, c -> new CategoryStatistics());
+        stats.teamCount += sign;
+        stats.overallScoreSum += sign * overall;
+        if (stats.teamCount == 0) {
+            categories.remove(category);
+        }
+    }
+
+    public int getTeamCount() { return teamCount; }
+    public double getOverallScoreSum() { return overallScoreSum; }
+
+    public double getAverageOverallScore() {
+        return teamCount == 0 ? 0.0 : overallScoreSum / teamCount;
+    }
+
+    // Returns a copy of the individual score histogram (index = score value).
+    public int[] getScoreFrequency() {
+        return scoreFrequency.clone();
+    }
+
+    public int getScoreFrequency(int score) {
+        return score >= 0 && score < scoreFrequency.length ? scoreFrequency[score] : 0;
+    }
+
+    public CategoryStatistics getCategoryStatistics(String category) {
+        return categories.get(category);
+    }
+
+    public Map<String, CategoryStatistics> getCategoryBreakdown() {
+        return Collections.unmodifiableMap(categories);
+    }
+}
@@ -0,0 +1,103 @@
+package hackathonsystem.view;
+
+import hackathonsystem.controller.ScoringService;
+import java.io.IOException;
+import java.util.List;
+import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
+import javax.swing.JPopupMenu;
+import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+/**
+ * Type-ahead for a "Find Team" field. When the user pauses while typing a team name, university
+ * or category, the best matches are looked up in the background and listed under the field;
+ * picking one puts its team number in the field and runs the view's search. Team numbers are
+ * left to the view's own exact lookup.
+ */
+public class TeamSuggestionPopup {
+
+    // Matches to list under the field
+    private static final int SUGGESTIONS = 10;
+    // Pause in typing before looking up, so each keystroke does not start a search
+    private static final int DELAY_MILLIS = 150;
+
+    public interface Lookup {
+        List<ScoringService.TeamSummary> search(String text, int limit) throws IOException;
+    }
+
+    private final JTextField field;
+    private final BackgroundDataService dataService;
+    private final Lookup lookup;
+    private final Runnable onPick;
+    private final JPopupMenu popup = new JPopupMenu();
+    private final Timer timer;
+
+    /**
+     * Attaches type-ahead to the field. onPick runs on the EDT once a suggestion's team number is
+     * in the field.
+     */
+    public TeamSuggestionPopup(JTextField field, BackgroundDataService dataService, Lookup lookup, Runnable onPick) {
+        this.field = field;
+        this.dataService = dataService;
+        this.lookup = lookup;
+        this.onPick = onPick;
+        // Keep the caret in the field while the list is showing
+        popup.setFocusable(false);
+        timer = new Timer(DELAY_MILLIS, e -> suggest());
+        timer.setRepeats(false);
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override public void insertUpdate(DocumentEvent e) { timer.restart(); }
+            @Override public void removeUpdate(DocumentEvent e) { timer.restart(); }
+            @Override public void changedUpdate(DocumentEvent e) { timer.restart(); }
+        });
+    }
+
+    /**
+     * Shows the best match for the text in the field, for when the user presses Search on a name
+     * instead of picking a suggestion.
+     */
+    public void pickBestMatch() {
+        String text = field.getText().trim();
+        popup.setVisible(false);
+        dataService.submit("suggest", () -> lookup.search(text, 1), matches -> {
+            if (matches.isEmpty()) {
+                JOptionPane.showMessageDialog(field, "No team matches '" + text + "'.", "Team Not Found", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                pick(matches.get(0));
+            }
+        });
+    }
+
+    private void suggest() {
+        String text = field.getText().trim();
+        if (text.isEmpty() || text.chars().allMatch(Character::isDigit)) {
+            popup.setVisible(false);
+            return;
+        }
+        dataService.submit("suggest", () -> lookup.search(text, SUGGESTIONS), this::show);
+    }
+
+    private void show(List<ScoringService.TeamSummary> matches) {
+        popup.setVisible(false);
+        popup.removeAll();
+        if (matches.isEmpty() || !field.isShowing()) {
+            return;
+        }
+        for (ScoringService.TeamSummary match : matches) {
+            JMenuItem item = new JMenuItem(match.toString());
+            item.addActionListener(e -> pick(match));
+            popup.add(item);
+        }
+        popup.show(field, 0, field.getHeight());
+    }
+
+    private void pick(ScoringService.TeamSummary match) {
+        popup.setVisible(false);
+        // A team number suggests nothing, so this does not reopen the list
+        field.setText(String.valueOf(match.getTeamNumber()));
+        onPick.run();
+    }
+}
@@ -0,0 +1,177 @@
+package hackathonsystem.view;
+
+import hackathonsystem.model.AbstractHackathonTeam;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Read-only table model over a list of teams. Cells are read lazily from the team objects, so
+ * only the rows JTable actually paints are ever formatted, and no per-row arrays are kept.
+ *
+ * Views build a Snapshot of the teams to show (off the EDT) and hand it to setSnapshot, which
+ * compares it with the rows currently shown using each team's version stamp and fires events
+ * only for the rows that were inserted, deleted or changed.
+ */
+public class TeamTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    // One column: header, value class and how to read the value from a team.
+    public static class Column {
+        private final String name;
+        private final Class<?> type;
+        private final Function<AbstractHackathonTeam, Object> value;
+
+        public Column(String name, Class<?> type, Function<AbstractHackathonTeam, Object> value) {
+            this.name = name;
+            this.type = type;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Teams in display order together with their versions (and the scoring rules generation)
+     * at the time the snapshot was taken.
+     */
+    public static class Snapshot {
+        private final List<AbstractHackathonTeam> teams;
+        private final int[] versions;
+        private final int rulesGeneration;
+
+        public Snapshot(List<AbstractHackathonTeam> teams, int rulesGeneration) {
+            this.teams = teams;
+            this.rulesGeneration = rulesGeneration;
+            this.versions = new int[teams.size()];
+            for (int i = 0; i < versions.length; i++) {
+                versions[i] = teams.get(i).getVersion();
+            }
+        }
+
+        public int size() {
+            return versions.length;
+        }
+
+        // Same team object, unchanged since both snapshots were taken; a rule change alters every overall score.
+        private boolean sameRow(int row, Snapshot other, int otherRow) {
+            return teams.get(row) == other.teams.get(otherRow) && versions[row] == other.versions[otherRow]
+                && rulesGeneration == other.rulesGeneration;
+        }
+    }
+
+    private final Column[] columns;
+    private Snapshot snapshot = new Snapshot(List.of(), 0);
+
+    public TeamTableModel(Column... columns) {
+        this.columns = columns.clone();
+    }
+
+    @Override
+    public int getRowCount() {
+        return snapshot.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column].name;
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columns[column].type;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return columns[column].value.apply(snapshot.teams.get(row));
+    }
+
+    public AbstractHackathonTeam getTeamAt(int row) {
+        return snapshot.teams.get(row);
+    }
+
+    /**
+     * Repaints the rows of the given teams in place, for changes that do not move rows
+     * (e.g. a new name, or new scores in a view that is not ranked by score).
+     */
+    public void refreshTeams(Set<Integer> teamNumbers) {
+        if (teamNumbers.isEmpty()) {
+            return;
+        }
+        int rangeStart = -1;
+        for (int row = 0; row < snapshot.size(); row++) {
+            AbstractHackathonTeam team = snapshot.teams.get(row);
+            boolean changed = teamNumbers.contains(team.getTeamNumber());
+            if (changed) {
+                snapshot.versions[row] = team.getVersion();
+            }
+            if (changed && rangeStart < 0) {
+                rangeStart = row;
+            } else if (!changed && rangeStart >= 0) {
+                fireTableRowsUpdated(rangeStart, row - 1);
+                rangeStart = -1;
+            }
+        }
+        if (rangeStart >= 0) {
+            fireTableRowsUpdated(rangeStart, snapshot.size() - 1);
+        }
+    }
+
+    /**
+     * Shows a new snapshot. Rows are matched by position: the unchanged prefix and suffix are
+     * skipped, changed rows in between are reported as updated (in contiguous ranges) and any
+     * difference in length as a single insert or delete at the end of that range.
+     */
+    public void setSnapshot(Snapshot next) {
+        Snapshot previous = snapshot;
+        int oldSize = previous.size();
+        int newSize = next.size();
+
+        int prefix = 0;
+        int shorter = Math.min(oldSize, newSize);
+        while (prefix < shorter && previous.sameRow(prefix, next, prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+                && previous.sameRow(oldSize - 1 - suffix, next, newSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        snapshot = next;
+        if (prefix == oldSize && prefix == newSize) {
+            return;
+        }
+
+        // Rows [prefix, oldEnd) were replaced by rows [prefix, newEnd)
+        int oldEnd = oldSize - suffix;
+        int newEnd = newSize - suffix;
+        int overlapEnd = Math.min(oldEnd, newEnd);
+
+        int rangeStart = -1;
+        for (int row = prefix; row < overlapEnd; row++) {
+            boolean changed = !previous.sameRow(row, next, row);
+            if (changed && rangeStart < 0) {
+                rangeStart = row;
+            } else if (!changed && rangeStart >= 0) {
+                fireTableRowsUpdated(rangeStart, row - 1);
+                rangeStart = -1;
+            }
+        }
+        if (rangeStart >= 0) {
+            fireTableRowsUpdated(rangeStart, overlapEnd - 1);
+        }
+
+        if (newEnd > oldEnd) {
+            fireTableRowsInserted(oldEnd, newEnd - 1);
+        } else if (oldEnd > newEnd) {
+            fireTableRowsDeleted(newEnd, oldEnd - 1);
+        }
+    }
+}
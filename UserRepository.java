@@ -24,7 +24,7 @@ public class UserRepository {
         users.add(new AdminUser("organizer", "orgpass"));
         
         // Judge: Scoring Access
-        users.add(new JudgeUser("judge1", "judgepass"));
+        users.add(new JudgeUser("judge1", "judgepass", "Judge Alice"));
         
         // Staff: Details and Eligibility Access
         users.add(new StaffUser("staff1", "staffpass"));
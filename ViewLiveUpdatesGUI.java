@@ -1,22 +1,25 @@
 package hackathonsystem.view;
 
 import hackathonsystem.controller.HackathonManager;
+import hackathonsystem.controller.TeamChangeEvent;
 import hackathonsystem.model.AbstractHackathonTeam;
+import hackathonsystem.model.RegisteredTeam;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.util.Arrays;
 
 public class ViewLiveUpdatesGUI extends JFrame {
     private final HackathonManager manager;
+    // Builds table snapshots off the EDT
+    private final BackgroundDataService dataService = new BackgroundDataService();
+    // Delivers change events made anywhere in the system once per frame
+    private final TeamChangeCoalescer changeListener = new TeamChangeCoalescer(this::teamsChanged);
 
     private JTable teamTable;
-    private DefaultTableModel tableModel;
+    private TeamTableModel tableModel;
     private JButton registerTeamButton;
-    private int nextTeamNumber = 120; 
 
     private static final Color PRIMARY_COLOR = new Color(52, 73, 94);
     private static final Color ACCENT_COLOR = new Color(46, 204, 113);
@@ -34,18 +37,23 @@ public class ViewLiveUpdatesGUI extends JFrame {
         initComponents();
         setLayoutComponents();
         refreshTable();
+        manager.addTeamChangeListener(changeListener);
     }
 
     private void initComponents() {
-        tableModel = new DefaultTableModel(new Object[]{
-                "Team #", "Team Name", "University", "Category", "Eligibility",
-                "Score 1", "Score 2", "Score 3", "Score 4", "Score 5", "Overall"
-        }, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // read-only table
-            }
-        };
+        tableModel = new TeamTableModel(
+                new TeamTableModel.Column("Team #", Object.class, AbstractHackathonTeam::getTeamNumber),
+                new TeamTableModel.Column("Team Name", Object.class, AbstractHackathonTeam::getTeamName),
+                new TeamTableModel.Column("University", Object.class, AbstractHackathonTeam::getUniversity),
+                new TeamTableModel.Column("Category", Object.class, AbstractHackathonTeam::getCategory),
+                new TeamTableModel.Column("Eligibility", Object.class, team -> team.isEligibility() ? "Eligible" : "Pending"),
+                new TeamTableModel.Column("Score 1", Object.class, team -> team.getScore(0)),
+                new TeamTableModel.Column("Score 2", Object.class, team -> team.getScore(1)),
+                new TeamTableModel.Column("Score 3", Object.class, team -> team.getScore(2)),
+                new TeamTableModel.Column("Score 4", Object.class, team -> team.getScore(3)),
+                new TeamTableModel.Column("Score 5", Object.class, team -> team.getScore(4)),
+                new TeamTableModel.Column("Overall", Object.class, team -> String.format("%.2f", team.getOverallScore()))
+        );
 
         teamTable = new JTable(tableModel);
         teamTable.setFont(LABEL_FONT);
@@ -84,25 +92,31 @@ public class ViewLiveUpdatesGUI extends JFrame {
     }
 
     private void refreshTable() {
-        tableModel.setRowCount(0); 
-
-        for (AbstractHackathonTeam team : manager.getTeamList().getAllTeams()) {
-            tableModel.addRow(new Object[]{
-                    team.getTeamNumber(),
-                    team.getTeamName(),
-                    team.getUniversity(),
-                    team.getCategory(),
-                    team.isEligibility() ? "Eligible" : "Pending",
-                    team.getScores()[0],
-                    team.getScores()[1],
-                    team.getScores()[2],
-                    team.getScores()[3],
-                    team.getScores()[4],
-                    String.format("%.2f", team.getOverallScore()) 
-            });
+        dataService.submit("table",
+                () -> {
+                    int rulesGeneration = manager.getTeamList().getScoringRules().getGeneration();
+                    return new TeamTableModel.Snapshot(manager.getTeamList().getAllTeams(), rulesGeneration);
+                },
+                tableModel::setSnapshot);
+    }
+
+    private void teamsChanged(TeamChangeCoalescer.Batch batch) {
+        if (batch.isStructural() || batch.contains(TeamChangeEvent.Type.SCORING_RULES_CHANGED)) {
+            refreshTable();
+        } else {
+            // Rows are in registration order, so other changes only repaint the affected rows
+            tableModel.refreshTeams(batch.getTeamNumbers());
         }
     }
 
+    @Override
+    public void dispose() {
+        manager.removeTeamChangeListener(changeListener);
+        changeListener.stop();
+        dataService.cancelAll();
+        super.dispose();
+    }
+
     private void openTeamRegistrationDialog(ActionEvent e) {
         JPanel panel = new JPanel(new GridLayout(0, 2, 10, 10));
 
@@ -161,28 +175,24 @@ public class ViewLiveUpdatesGUI extends JFrame {
                 return;
             }
 
-            // Duplicate check: same leader + category
-            boolean duplicateExists = manager.getTeamList().getAllTeams().stream()
-                    .anyMatch(t -> t.getCustomAttributeDetails().equalsIgnoreCase(leaderName) &&
-                            t.getCategory().equalsIgnoreCase(category));
+            // Duplicate check: same leader + category (only that category's teams are scanned)
+            boolean duplicateExists = manager.getTeamList().getTeamsSortedByScore(category).stream()
+                    .anyMatch(t -> t.getCustomAttributeDetails().equalsIgnoreCase(leaderName));
             if (duplicateExists) {
                 JOptionPane.showMessageDialog(this, "Duplicate team with same leader and category exists.", "Error", JOptionPane.ERROR_MESSAGE);
                 return;
             }
 
-            int teamNumber = nextTeamNumber;
-            nextTeamNumber++;
+            int teamNumber = manager.getTeamList().allocateTeamId();
             
-            AbstractHackathonTeam team = new AbstractHackathonTeam(
-                    teamNumber, teamName, category, university, false, leaderName, new int[]{0,0,0,0,0}) {
-                @Override
-                public double getOverallScore() { return 0; }
-                @Override
-                public String getUniqueAttributeDetails() { return Arrays.toString(members); }
-            };
-
-            manager.getTeamList().addTeam(team);
-            refreshTable();
+            AbstractHackathonTeam team = new RegisteredTeam(
+                    teamNumber, teamName, category, university, false, leaderName, new int[]{0,0,0,0,0}, members);
+
+            // The TEAM_ADDED event refreshes the table
+            if (!manager.registerTeam(team)) {
+                JOptionPane.showMessageDialog(this, "Failed to register the team. The change could not be saved.", "Registration Failed", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
 
             JOptionPane.showMessageDialog(this, "Team registered successfully! Team Number: " + teamNumber, "Success", JOptionPane.INFORMATION_MESSAGE);
         }
@@ -11,24 +11,30 @@ public class WebDevTeam extends AbstractHackathonTeam {
     }
 
     @Override
-public double getOverallScore() {
-    if (!eligibility) {
-        return 0.0;
+    protected double computeOverallScore() {
+        return scoreBy(getScoringRule(), usesModernFramework);
     }
-    double totalScore = 0;
-    for (int score : scores) {
-        totalScore += score;
+
+    // Scored by the category's configured rule, or the Web Development rule by default.
+    @Override
+    public ScoringRule getScoringRule() {
+        return ruleFor(getDefaultScoringRule());
     }
-    if (usesModernFramework) {
-        totalScore += 2.5; 
-    } else {
-        totalScore -= 5.0; 
+
+    @Override
+    public ScoringRule getDefaultScoringRule() {
+        return ScoringRule.WEB_DEVELOPMENT;
     }
-    totalScore = Math.max(0, totalScore);
-    double finalScore = totalScore / 5.0; 
-    return Math.min(5.0, finalScore); 
-}
-    
+
+    @Override
+    public boolean hasScoringAttribute() {
+        return usesModernFramework;
+    }
+
+    public boolean usesModernFramework() {
+        return usesModernFramework;
+    }
+
     @Override
     public String getUniqueAttributeDetails() {
         return String.format("Unique Attribute: Uses Modern Framework: %s", usesModernFramework ? "Yes (Bonus Applied)" : "No (Penalty Applied)");